@@ -0,0 +1,99 @@
+package cn.darkjrong.hbase.benchmark;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HbaseUtils#getValue(Class, byte[], int, int)} 从{@link Cell}值切片解码基准
+ *  值位于KeyValue底层数组中间, 与服务端返回的数据布局一致
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    private static final byte[] ROW = Bytes.toBytes("row-0000000001");
+    private static final byte[] FAMILY = Bytes.toBytes("info");
+
+    private Cell stringCell;
+    private Cell intCell;
+    private Cell longCell;
+    private Cell doubleCell;
+    private Cell floatCell;
+    private Cell bigDecimalCell;
+    private Cell booleanCell;
+    private Cell shortCell;
+
+    @Setup
+    public void setup() {
+        stringCell = cell("string", Bytes.toBytes("hbase-spring-boot-starter"));
+        intCell = cell("int", Bytes.toBytes(123456789));
+        longCell = cell("long", Bytes.toBytes(1234567890123L));
+        doubleCell = cell("double", Bytes.toBytes(12345.6789D));
+        floatCell = cell("float", Bytes.toBytes(123.45F));
+        bigDecimalCell = cell("bigDecimal", Bytes.toBytes(new BigDecimal("12345678901234567890.123456789")));
+        booleanCell = cell("boolean", Bytes.toBytes(Boolean.TRUE));
+        shortCell = cell("short", Bytes.toBytes((short) 12345));
+    }
+
+    @Benchmark
+    public Object decodeString() {
+        return decode(String.class, stringCell);
+    }
+
+    @Benchmark
+    public Object decodeInteger() {
+        return decode(Integer.class, intCell);
+    }
+
+    @Benchmark
+    public Object decodeLong() {
+        return decode(Long.class, longCell);
+    }
+
+    @Benchmark
+    public Object decodeDouble() {
+        return decode(Double.class, doubleCell);
+    }
+
+    @Benchmark
+    public Object decodeFloat() {
+        return decode(Float.class, floatCell);
+    }
+
+    @Benchmark
+    public Object decodeBigDecimal() {
+        return decode(BigDecimal.class, bigDecimalCell);
+    }
+
+    @Benchmark
+    public Object decodeBoolean() {
+        return decode(Boolean.class, booleanCell);
+    }
+
+    @Benchmark
+    public Object decodeShort() {
+        return decode(Short.class, shortCell);
+    }
+
+    private static Object decode(Class<?> tClass, Cell cell) {
+        return HbaseUtils.getValue(tClass, cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    private static Cell cell(String qualifier, byte[] value) {
+        return new KeyValue(ROW, FAMILY, Bytes.toBytes(qualifier), System.currentTimeMillis(), value);
+    }
+
+}
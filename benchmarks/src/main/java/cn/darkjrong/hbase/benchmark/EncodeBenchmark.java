@@ -0,0 +1,84 @@
+package cn.darkjrong.hbase.benchmark;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HbaseUtils#toBytes(Object)} 各类型编码基准
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeBenchmark {
+
+    private Object stringValue;
+    private Object intValue;
+    private Object longValue;
+    private Object doubleValue;
+    private Object floatValue;
+    private Object bigDecimalValue;
+    private Object booleanValue;
+    private Object shortValue;
+
+    @Setup
+    public void setup() {
+        stringValue = "hbase-spring-boot-starter";
+        intValue = 123456789;
+        longValue = 1234567890123L;
+        doubleValue = 12345.6789D;
+        floatValue = 123.45F;
+        bigDecimalValue = new BigDecimal("12345678901234567890.123456789");
+        booleanValue = Boolean.TRUE;
+        shortValue = (short) 12345;
+    }
+
+    @Benchmark
+    public byte[] encodeString() {
+        return HbaseUtils.toBytes(stringValue);
+    }
+
+    @Benchmark
+    public byte[] encodeInteger() {
+        return HbaseUtils.toBytes(intValue);
+    }
+
+    @Benchmark
+    public byte[] encodeLong() {
+        return HbaseUtils.toBytes(longValue);
+    }
+
+    @Benchmark
+    public byte[] encodeDouble() {
+        return HbaseUtils.toBytes(doubleValue);
+    }
+
+    @Benchmark
+    public byte[] encodeFloat() {
+        return HbaseUtils.toBytes(floatValue);
+    }
+
+    @Benchmark
+    public byte[] encodeBigDecimal() {
+        return HbaseUtils.toBytes(bigDecimalValue);
+    }
+
+    @Benchmark
+    public byte[] encodeBoolean() {
+        return HbaseUtils.toBytes(booleanValue);
+    }
+
+    @Benchmark
+    public byte[] encodeShort() {
+        return HbaseUtils.toBytes(shortValue);
+    }
+
+}
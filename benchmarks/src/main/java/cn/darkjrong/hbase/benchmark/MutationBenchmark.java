@@ -0,0 +1,56 @@
+package cn.darkjrong.hbase.benchmark;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Put;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * put/delete 构建操作对象基准
+ *  与{@link cn.darkjrong.hbase.HbaseTemplate}中put, delete使用相同的构建方法
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmark {
+
+    private String rowKey;
+    private String columnFamily;
+    private String qualifier;
+    private byte[] data;
+
+    @Param({"16", "1024"})
+    private int valueSize;
+
+    @Setup
+    public void setup() {
+        rowKey = "row-0000000001";
+        columnFamily = "info";
+        qualifier = "name";
+        data = new byte[valueSize];
+    }
+
+    @Benchmark
+    public Put buildPut() {
+        return HbaseUtils.newPut(rowKey, columnFamily, qualifier, data);
+    }
+
+    @Benchmark
+    public Delete buildDeleteColumn() {
+        return HbaseUtils.newDelete(rowKey, columnFamily, qualifier);
+    }
+
+    @Benchmark
+    public Delete buildDeleteFamily() {
+        return HbaseUtils.newDelete(rowKey, columnFamily, null);
+    }
+
+}
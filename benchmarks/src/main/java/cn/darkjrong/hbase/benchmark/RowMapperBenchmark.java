@@ -0,0 +1,130 @@
+package cn.darkjrong.hbase.benchmark;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.darkjrong.hbase.callback.RowMapperResultsExtractor;
+import cn.darkjrong.hbase.support.CellView;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RowMapperResultsExtractor} 行映射基准
+ *  使用内存中构造的{@link Result}, 不访问hbase
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    private static final byte[] FAMILY = Bytes.toBytes("info");
+    private static final byte[] NAME = Bytes.toBytes("name");
+    private static final byte[] AGE = Bytes.toBytes("age");
+    private static final byte[] SCORE = Bytes.toBytes("score");
+
+    private static final RowMapper<User> USER_MAPPER = (result, rowNum) -> {
+        User user = new User();
+        user.rowKey = Bytes.toString(result.getRow());
+        user.name = HbaseUtils.toStr(result.getValue(FAMILY, NAME));
+        user.age = Bytes.toInt(result.getValue(FAMILY, AGE));
+        user.score = Bytes.toDouble(result.getValue(FAMILY, SCORE));
+        return user;
+    };
+
+    private static final RowMapper<User> CELL_VIEW_MAPPER = (result, rowNum) -> {
+        CellView view = CellView.of(result);
+        User user = new User();
+        user.rowKey = view.getRow();
+        user.name = view.getString(FAMILY, NAME);
+        user.age = view.getInt(FAMILY, AGE);
+        user.score = view.getDouble(FAMILY, SCORE);
+        return user;
+    };
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private Result[] results;
+    private RowMapperResultsExtractor<User> extractor;
+    private RowMapperResultsExtractor<User> cellViewExtractor;
+
+    @Setup
+    public void setup() {
+        long timestamp = System.currentTimeMillis();
+        results = new Result[rows];
+        for (int i = 0; i < rows; i++) {
+            byte[] row = Bytes.toBytes(String.format("row-%010d", i));
+            List<Cell> cells = new ArrayList<>(3);
+            cells.add(new KeyValue(row, FAMILY, AGE, timestamp, Bytes.toBytes(i % 100)));
+            cells.add(new KeyValue(row, FAMILY, NAME, timestamp, Bytes.toBytes("user-" + i)));
+            cells.add(new KeyValue(row, FAMILY, SCORE, timestamp, Bytes.toBytes(i * 0.5D)));
+            results[i] = Result.create(cells);
+        }
+        extractor = new RowMapperResultsExtractor<>(USER_MAPPER);
+        cellViewExtractor = new RowMapperResultsExtractor<>(CELL_VIEW_MAPPER);
+    }
+
+    @Benchmark
+    public List<User> extract() {
+        return extractor.extractData(new ArrayResultScanner(results));
+    }
+
+    @Benchmark
+    public List<User> extractWithCellView() {
+        return cellViewExtractor.extractData(new ArrayResultScanner(results));
+    }
+
+    public static class User {
+        String rowKey;
+        String name;
+        int age;
+        double score;
+    }
+
+    /**
+     * 基于数组的扫描器
+     */
+    private static class ArrayResultScanner implements ResultScanner {
+
+        private final Result[] results;
+        private int index;
+
+        ArrayResultScanner(Result[] results) {
+            this.results = results;
+        }
+
+        @Override
+        public Result next() {
+            return index < results.length ? results[index++] : null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean renewLease() {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public ScanMetrics getScanMetrics() {
+            return null;
+        }
+    }
+
+}
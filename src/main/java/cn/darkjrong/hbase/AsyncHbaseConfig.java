@@ -0,0 +1,44 @@
+package cn.darkjrong.hbase;
+
+import org.apache.hadoop.hbase.client.AsyncConnection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * hbase异步配置
+ *  开启：spring.data.hbase.async.enabled=true
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.data.hbase.async", name = "enabled", havingValue = "true")
+public class AsyncHbaseConfig {
+
+    @Bean
+    public AsyncConnection asyncConnection(org.apache.hadoop.conf.Configuration configuration) throws ExecutionException, InterruptedException {
+        return ConnectionFactory.createAsyncConnection(configuration).get();
+    }
+
+    @Bean
+    public AsyncHbaseTemplate asyncHbaseTemplate(AsyncConnection asyncConnection) {
+        return new AsyncHbaseTemplate(asyncConnection);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    static class ReactiveHbaseConfig {
+
+        @Bean
+        public ReactiveHbaseTemplate reactiveHbaseTemplate(AsyncHbaseTemplate asyncHbaseTemplate) {
+            return new ReactiveHbaseTemplate(asyncHbaseTemplate);
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.callback.RowMapper;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * hbase异步操作类
+ *  所有方法立即返回, 不占用调用线程; 行映射在hbase回调线程中执行, 不宜在映射器中执行阻塞操作
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+public interface AsyncHbaseOperations {
+
+    /**
+     * 查询多个
+     *
+     * @param tableName 表名
+     * @param rowMapper 行映射器
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    <T> CompletableFuture<List<T>> find(String tableName, RowMapper<T> rowMapper);
+
+    /**
+     * 查询多个
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    <T> CompletableFuture<List<T>> find(String tableName, String columnFamily, RowMapper<T> rowMapper);
+
+    /**
+     * 查询多个
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param rowMapper    行映射器
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    <T> CompletableFuture<List<T>> find(String tableName, String columnFamily, String qualifier, RowMapper<T> rowMapper);
+
+    /**
+     * 查询多个
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param rowMapper 行映射器
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    <T> CompletableFuture<List<T>> find(String tableName, Scan scan, RowMapper<T> rowMapper);
+
+    /**
+     * 获取行
+     *
+     * @param tableName 表名
+     * @param rowKey    行Key
+     * @param rowMapper 行映射器
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    <T> CompletableFuture<T> get(String tableName, String rowKey, RowMapper<T> rowMapper);
+
+    /**
+     * 获取行
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    <T> CompletableFuture<T> get(String tableName, String rowKey, String columnFamily, RowMapper<T> rowMapper);
+
+    /**
+     * 获取行
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param rowMapper    行映射器
+     * @return {@link CompletableFuture}<{@link T}>
+     */
+    <T> CompletableFuture<T> get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> rowMapper);
+
+    /**
+     * 批量获取行
+     *  结果保持传入顺序, 不存在的行不返回
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link CompletableFuture}<{@link List}<{@link T}>>
+     */
+    <T> CompletableFuture<List<T>> get(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper);
+
+    /**
+     * 插入单个数据
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param data         数据
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    CompletableFuture<Void> put(String tableName, String rowKey, String columnFamily, String qualifier, byte[] data);
+
+    /**
+     * 删除
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    CompletableFuture<Void> delete(String tableName, String rowKey, String columnFamily);
+
+    /**
+     * 删除
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    CompletableFuture<Void> delete(String tableName, String rowKey, String columnFamily, String qualifier);
+
+    /**
+     * 保存或更新
+     *
+     * @param tableName 表名
+     * @param mutation  操作数据
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    CompletableFuture<Void> saveOrUpdate(String tableName, Mutation mutation);
+
+    /**
+     * 保存或更新
+     *
+     * @param tableName 表名
+     * @param mutations 操作数据
+     * @return {@link CompletableFuture}<{@link Void}>
+     */
+    CompletableFuture<Void> saveOrUpdate(String tableName, List<Mutation> mutations);
+
+}
@@ -0,0 +1,186 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * hbase异步模板
+ *  基于{@link AsyncConnection}, 请求不占用调用线程
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Slf4j
+@Getter
+public class AsyncHbaseTemplate implements AsyncHbaseOperations {
+
+    private final AsyncConnection connection;
+
+    public AsyncHbaseTemplate(AsyncConnection connection) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        this.connection = connection;
+    }
+
+    /**
+     * 获取表
+     *  异步表轻量且线程安全, 无需关闭
+     *
+     * @param tableName 表名
+     * @return {@link AsyncTable}<{@link AdvancedScanResultConsumer}>
+     */
+    public AsyncTable<AdvancedScanResultConsumer> getTable(String tableName) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        return connection.getTable(TableName.valueOf(tableName));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> find(String tableName, RowMapper<T> rowMapper) {
+        return find(tableName, new Scan(), rowMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> find(String tableName, String columnFamily, RowMapper<T> rowMapper) {
+        Scan scan = new Scan();
+        scan.addFamily(HbaseUtils.toBytes(columnFamily));
+        return find(tableName, scan, rowMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> find(String tableName, String columnFamily, String qualifier, RowMapper<T> rowMapper) {
+        Scan scan = new Scan();
+        scan.addColumn(HbaseUtils.toBytes(columnFamily), HbaseUtils.toBytes(qualifier));
+        return find(tableName, scan, rowMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> find(String tableName, Scan scan, RowMapper<T> rowMapper) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        return wrap("find", getTable(tableName).scanAll(scan).thenApply(results -> mapRows(results, rowMapper)));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(String tableName, String rowKey, RowMapper<T> rowMapper) {
+        return get(tableName, rowKey, null, null, rowMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(String tableName, String rowKey, String columnFamily, RowMapper<T> rowMapper) {
+        return get(tableName, rowKey, columnFamily, null, rowMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> rowMapper) {
+        Assert.notBlank(rowKey, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowKey"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        Get get = newGet(rowKey, columnFamily, qualifier);
+        return wrap("get", getTable(tableName).get(get).thenApply(result -> rowMapper.mapRow(result, 0)));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> get(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        if (CollectionUtil.isEmpty(rowKeys)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        List<Get> gets = CollectionUtil.newArrayList();
+        rowKeys.forEach(a -> gets.add(newGet(a, columnFamily, null)));
+        return wrap("get", getTable(tableName).getAll(gets).thenApply(results -> mapRows(results, rowMapper)));
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String tableName, String rowKey, String columnFamily, String qualifier, byte[] data) {
+        Assert.notBlank(rowKey, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowKey"));
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+        Assert.notBlank(qualifier, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "qualifier"));
+        Assert.isTrue(ArrayUtil.isNotEmpty(data), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "data"));
+
+        return wrap("put", getTable(tableName).put(HbaseUtils.newPut(rowKey, columnFamily, qualifier, data)));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String tableName, String rowKey, String columnFamily) {
+        return delete(tableName, rowKey, columnFamily, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String tableName, String rowKey, String columnFamily, String qualifier) {
+        Assert.notBlank(rowKey, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowKey"));
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+
+        return wrap("delete", getTable(tableName).delete(HbaseUtils.newDelete(rowKey, columnFamily, qualifier)));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveOrUpdate(String tableName, Mutation mutation) {
+        Assert.notNull(mutation, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mutation"));
+        return saveOrUpdate(tableName, Collections.singletonList(mutation));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveOrUpdate(String tableName, List<Mutation> mutations) {
+        if (CollectionUtil.isEmpty(mutations)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return wrap("saveOrUpdate", getTable(tableName).batchAll(mutations).thenApply(a -> null));
+    }
+
+    private static Get newGet(String rowKey, String columnFamily, String qualifier) {
+        Get get = new Get(HbaseUtils.toBytes(rowKey));
+        if (StrUtil.isNotBlank(columnFamily)) {
+            byte[] family = HbaseUtils.toBytes(columnFamily);
+            if (StrUtil.isNotBlank(qualifier)) {
+                get.addColumn(family, HbaseUtils.toBytes(qualifier));
+            } else {
+                get.addFamily(family);
+            }
+        }
+        return get;
+    }
+
+    private static <T> List<T> mapRows(List<Result> results, RowMapper<T> rowMapper) {
+        List<T> rows = CollectionUtil.newArrayList();
+        int rowNum = 0;
+        for (Result result : results) {
+            if (ObjectUtil.isNull(result) || result.isEmpty()) continue;
+            T row = rowMapper.mapRow(result, rowNum++);
+            if (ObjectUtil.isNotNull(row)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 将异常统一转换为{@link HbaseException}
+     */
+    private static <T> CompletableFuture<T> wrap(String operation, CompletableFuture<T> future) {
+        CompletableFuture<T> wrapped = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                wrapped.complete(value);
+                return;
+            }
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            log.error(operation, cause);
+            wrapped.completeExceptionally(cause instanceof HbaseException ? cause : new HbaseException(cause));
+        });
+        return wrapped;
+    }
+
+}
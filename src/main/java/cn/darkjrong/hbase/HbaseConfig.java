@@ -1,11 +1,33 @@
 package cn.darkjrong.hbase;
 
+import cn.darkjrong.hbase.bulkload.BulkLoader;
+import cn.darkjrong.hbase.codec.HbaseCodec;
+import cn.darkjrong.hbase.codec.HbaseCodecRegistry;
+import cn.darkjrong.hbase.mapping.HbaseEntityPackages;
+import cn.darkjrong.hbase.mapping.HbaseMappingContext;
+import cn.darkjrong.hbase.metrics.HbaseMetrics;
+import cn.darkjrong.hbase.scan.ParallelScanner;
+import cn.darkjrong.hbase.scan.ScanPipeline;
+import cn.darkjrong.hbase.support.AggregationEndpoint;
+import cn.darkjrong.hbase.support.BufferedMutatorPool;
+import cn.darkjrong.hbase.support.ClusterMetadataIndex;
+import cn.darkjrong.hbase.support.GetBatcher;
+import cn.darkjrong.hbase.support.LazyConnection;
+import cn.darkjrong.hbase.support.RegionLocationWarmer;
+import cn.darkjrong.hbase.support.RollingCompactor;
+import cn.darkjrong.spring.boot.autoconfigure.HbaseProperties;
 import lombok.AllArgsConstructor;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.HBaseAdmin;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.IOException;
 
@@ -20,20 +42,126 @@ import java.io.IOException;
 public class HbaseConfig {
 
     private final org.apache.hadoop.conf.Configuration configuration;
+    private final HbaseProperties hbaseProperties;
 
     @Bean
     public Connection getConnection() throws IOException {
+        if (hbaseProperties.isLazyConnect()) {
+            return new LazyConnection(configuration);
+        }
         return ConnectionFactory.createConnection(configuration);
     }
 
+    @Lazy
     @Bean
-    public HBaseAdmin hBaseAdmin() throws IOException {
-        return (HBaseAdmin) getConnection().getAdmin();
+    public HBaseAdmin hBaseAdmin(Connection connection) throws IOException {
+        return (HBaseAdmin) connection.getAdmin();
     }
 
     @Bean
-    public HbaseTemplate hbaseTemplate(Connection connection, HBaseAdmin admin) {
-        return new HbaseTemplate(connection, admin);
+    public BufferedMutatorPool bufferedMutatorPool(Connection connection, ObjectProvider<HbaseMetrics> metrics) {
+        HbaseProperties.Mutator mutator = hbaseProperties.getMutator();
+        BufferedMutatorPool mutatorPool = new BufferedMutatorPool(connection, mutator.getWriteBufferSize(), mutator.getPeriodicFlushTimeout().toMillis());
+        mutatorPool.setMetrics(metrics.getIfAvailable(() -> HbaseMetrics.NOOP));
+        return mutatorPool;
+    }
+
+    @Bean
+    public RegionLocationWarmer regionLocationWarmer(Connection connection) {
+        HbaseProperties.Warmup warmup = hbaseProperties.getWarmup();
+        return new RegionLocationWarmer(connection, warmup.getTables(), warmup.isOpenTables(), warmup.getTimeout());
+    }
+
+    @Bean
+    public ClusterMetadataIndex clusterMetadataIndex(Connection connection) {
+        return new ClusterMetadataIndex(connection, hbaseProperties.getMetadata().getRefreshInterval());
+    }
+
+    @Bean
+    public RollingCompactor rollingCompactor(Connection connection, ClusterMetadataIndex metadataIndex) {
+        HbaseProperties.Compaction compaction = hbaseProperties.getCompaction();
+        return new RollingCompactor(connection, metadataIndex, compaction.getMaxConcurrent(),
+                compaction.getPollInterval(), compaction.getSkipWithin());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.data.hbase.get", name = "coalesce", havingValue = "true")
+    public GetBatcher getBatcher(Connection connection, ObjectProvider<HbaseMetrics> metrics) {
+        HbaseProperties.Get get = hbaseProperties.getGet();
+        GetBatcher getBatcher = new GetBatcher(connection, get.getCoalesceWindow(), get.getCoalesceMaxSize(),
+                get.getCoalesceThreads(), get.getCoalesceQueueCapacity());
+        getBatcher.setMetrics(metrics.getIfAvailable(() -> HbaseMetrics.NOOP));
+        return getBatcher;
+    }
+
+    @Bean
+    @ConditionalOnClass(name = AggregationEndpoint.CLIENT_CLASS)
+    public AggregationEndpoint aggregationEndpoint(Connection connection) {
+        return new AggregationEndpoint(connection);
+    }
+
+    @Bean
+    public ParallelScanner parallelScanner(Connection connection) {
+        HbaseProperties.Scan scan = hbaseProperties.getScan();
+        return new ParallelScanner(connection, scan.getParallelism(), scan.getQueueCapacity());
+    }
+
+    @Bean
+    public ScanPipeline scanPipeline() {
+        HbaseProperties.Scan scan = hbaseProperties.getScan();
+        return new ScanPipeline(scan.getPipelineWorkers(), scan.getPipelineDepth());
+    }
+
+    @Bean
+    public HbaseMappingContext hbaseMappingContext(BeanFactory beanFactory, ObjectProvider<HbaseEntityPackages> entityPackages,
+                                                   ObjectProvider<HbaseCodec<?>> codecs) {
+        codecs.orderedStream().forEach(HbaseCodecRegistry::register);
+        HbaseMappingContext mappingContext = new HbaseMappingContext();
+        mappingContext.setIdType(hbaseProperties.getIdType());
+        HbaseEntityPackages packages = entityPackages.getIfAvailable();
+        if (packages != null) {
+            mappingContext.scan(packages.getPackages());
+        } else if (AutoConfigurationPackages.has(beanFactory)) {
+            mappingContext.scan(AutoConfigurationPackages.get(beanFactory));
+        }
+        return mappingContext;
+    }
+
+    @Bean
+    public HbaseTemplate hbaseTemplate(Connection connection, BufferedMutatorPool mutatorPool,
+                                       ParallelScanner parallelScanner, ObjectProvider<HbaseMetrics> metrics,
+                                       HbaseMappingContext mappingContext, ClusterMetadataIndex metadataIndex,
+                                       ObjectProvider<GetBatcher> getBatcher, ObjectProvider<AggregationEndpoint> aggregationEndpoint,
+                                       ScanPipeline scanPipeline) {
+        HbaseTemplate hbaseTemplate = new HbaseTemplate(connection, mutatorPool);
+        hbaseTemplate.setMultiGetBatchSize(hbaseProperties.getGet().getBatchSize());
+        hbaseTemplate.setCollapseGets(hbaseProperties.getGet().isCollapse());
+        hbaseTemplate.setGetBatcher(getBatcher.getIfAvailable());
+        hbaseTemplate.setAggregationEndpoint(aggregationEndpoint.getIfAvailable());
+        hbaseTemplate.setParallelScanner(parallelScanner);
+        hbaseTemplate.setScanPipeline(scanPipeline);
+        hbaseTemplate.setMetrics(metrics.getIfAvailable(() -> HbaseMetrics.NOOP));
+        hbaseTemplate.setMappingContext(mappingContext);
+        hbaseTemplate.setMetadataIndex(metadataIndex);
+        HbaseProperties.Cache cache = hbaseProperties.getCache();
+        cache.getTables().forEach(a -> hbaseTemplate.enableRowCache(a, cache.getMaximumSize(), cache.getTimeToLive()));
+        hbaseProperties.getDistributors().forEach((k, v) -> hbaseTemplate.registerDistributor(k, v.getType().create(v.getBuckets())));
+        return hbaseTemplate;
+    }
+
+    /**
+     * 批量导入配置, 引入hbase-server时开启
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.apache.hadoop.hbase.tool.BulkLoadHFiles")
+    static class BulkLoadConfig {
+
+        @Bean
+        public BulkLoader bulkLoader(Connection connection, HbaseProperties hbaseProperties) {
+            HbaseProperties.BulkLoad bulkLoad = hbaseProperties.getBulkLoad();
+            return new BulkLoader(connection, bulkLoad.getStagingDir(), bulkLoad.getChunkSize(), bulkLoad.getRetries());
+        }
+
     }
 
 
@@ -4,11 +4,17 @@ import cn.darkjrong.hbase.callback.MutatorCallback;
 import cn.darkjrong.hbase.callback.TableCallback;
 import cn.darkjrong.hbase.callback.ResultsExtractor;
 import cn.darkjrong.hbase.callback.RowMapper;
+import cn.darkjrong.hbase.domain.ScanPage;
+import cn.darkjrong.hbase.scan.MergeMode;
+import cn.darkjrong.hbase.support.ScannerIterator;
 import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Scan;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * hbase操作类
@@ -20,6 +26,7 @@ public interface HbaseOperations {
 
     /**
      * 执行
+     *  mutator 由连接池管理, 各表共享且长期存在, 回调中不允许关闭
      *
      * @param tableName 表名
      * @param action    删除，修改回调
@@ -116,6 +123,165 @@ public interface HbaseOperations {
      */
     <T> List<T> find(String tableName, Scan scan, RowMapper<T> rowMapper);
 
+    /**
+     * 并行查询
+     *  按region边界拆分扫描并发执行
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param mergeMode 合并方式
+     * @param extractor 结果提取器
+     * @return {@link T}
+     */
+    <T> T findParallel(String tableName, Scan scan, MergeMode mergeMode, ResultsExtractor<T> extractor);
+
+    /**
+     * 并行查询多个
+     *  按region边界拆分扫描并发执行
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param mergeMode 合并方式
+     * @param rowMapper 行映射器
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> findParallel(String tableName, Scan scan, MergeMode mergeMode, RowMapper<T> rowMapper);
+
+    /**
+     * 流式查询
+     *  按需从扫描器拉取数据, 不缓存结果, 使用完毕后必须关闭流以释放扫描器及表
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param rowMapper 行映射器
+     * @return {@link Stream}<{@link T}>
+     */
+    <T> Stream<T> stream(String tableName, Scan scan, RowMapper<T> rowMapper);
+
+    /**
+     * 迭代查询
+     *  按需从扫描器拉取数据, 不缓存结果, 遍历结束后自动关闭, 提前结束时必须调用{@link ScannerIterator#close()}
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param rowMapper 行映射器
+     * @return {@link ScannerIterator}<{@link T}>
+     */
+    <T> ScannerIterator<T> iterator(String tableName, Scan scan, RowMapper<T> rowMapper);
+
+    /**
+     * 流水线查询
+     *  扫描器异步预取下一批次, 行映射在线程池中执行, 输出顺序与扫描顺序一致; 适用于行映射耗CPU的查询
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param rowMapper 行映射器, 需线程安全
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> findPipelined(String tableName, Scan scan, RowMapper<T> rowMapper);
+
+    /**
+     * 分页查询
+     *  从令牌对应行之后继续扫描, 每页只读取pageSize + 1行, 深分页与首页开销一致
+     *
+     * @param tableName 表名
+     * @param scan      查询对象, 开始行仅对首页生效
+     * @param token     上一页返回的{@link ScanPage#getNextToken()}, 首页为null
+     * @param pageSize  每页行数
+     * @param rowMapper 行映射器
+     * @return {@link ScanPage}<{@link T}>
+     */
+    <T> ScanPage<T> findPage(String tableName, Scan scan, String token, int pageSize, RowMapper<T> rowMapper);
+
+    /**
+     * 统计行数
+     *  表加载聚合协处理器时由region server计数, 否则并行扫描且只传输行Key
+     *
+     * @param tableName 表名
+     * @return 行数
+     */
+    long count(String tableName);
+
+    /**
+     * 统计行数
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @return 行数
+     */
+    long count(String tableName, Scan scan);
+
+    /**
+     * 列求和
+     *  表加载聚合协处理器且列类型为Long, Double或BigDecimal时由region server计算(Long按long累加), 否则并行扫描且只传输该列;
+     *  不存在该列的行忽略, 最小值, 最大值同理
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @return {@link BigDecimal}
+     */
+    BigDecimal sum(String tableName, String columnFamily, String qualifier, Class<? extends Number> type);
+
+    /**
+     * 列求和
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @param scan         查询对象
+     * @return {@link BigDecimal}
+     */
+    BigDecimal sum(String tableName, String columnFamily, String qualifier, Class<? extends Number> type, Scan scan);
+
+    /**
+     * 列最小值
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @return {@link N}, 不存在该列时返回null
+     */
+    <N extends Number & Comparable<N>> N min(String tableName, String columnFamily, String qualifier, Class<N> type);
+
+    /**
+     * 列最小值
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @param scan         查询对象
+     * @return {@link N}, 不存在该列时返回null
+     */
+    <N extends Number & Comparable<N>> N min(String tableName, String columnFamily, String qualifier, Class<N> type, Scan scan);
+
+    /**
+     * 列最大值
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @return {@link N}, 不存在该列时返回null
+     */
+    <N extends Number & Comparable<N>> N max(String tableName, String columnFamily, String qualifier, Class<N> type);
+
+    /**
+     * 列最大值
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param type         列值类型
+     * @param scan         查询对象
+     * @return {@link N}, 不存在该列时返回null
+     */
+    <N extends Number & Comparable<N>> N max(String tableName, String columnFamily, String qualifier, Class<N> type, Scan scan);
+
     /**
      * 获取行
      *
@@ -141,7 +307,7 @@ public interface HbaseOperations {
      * 获取行
      *
      * @param tableName    表名
-     * @param rowKey      行Key
+     * @param rowKey      行Key, 编码与实体行Key一致, 见{@link HbaseUtils#toRowKey(Object)}
      * @param rowMapper       行映射器
      * @param columnFamily 列族
      * @return {@link T}
@@ -160,6 +326,30 @@ public interface HbaseOperations {
      */
     <T> T get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> rowMapper);
 
+    /**
+     * 批量获取行
+     *  按表的region server分组批量请求, 每个传入的行Key对应一个结果, 保持传入顺序, 重复的行Key重复返回, 不存在的行为null
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link List}<{@link T}>, 与rowKeys一一对应
+     */
+    <T> List<T> get(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper);
+
+    /**
+     * 批量获取行
+     *  按表的region server分组批量请求, 结果保持传入顺序, 重复的行Key只保留一个, 不存在的行不返回
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link Map}<{@link String}, {@link T}> key: 行Key
+     */
+    <T> Map<String, T> getMap(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper);
+
     /**
      * 插入单个数据
      *
@@ -192,6 +382,7 @@ public interface HbaseOperations {
 
     /**
      * 保存或更新
+     *  数据先写入缓冲区, 缓冲区满或到达刷新周期时提交, 需要立即可见时调用{@link #flush(String)}
      *
      * @param tableName 表名
      * @param mutation  操作数据
@@ -206,6 +397,59 @@ public interface HbaseOperations {
      */
     void saveOrUpdate(String tableName, List<Mutation> mutations);
 
+    /**
+     * 刷新表写缓冲区, 将{@link #saveOrUpdate}提交的数据立即写入
+     *
+     * @param tableName 表名
+     */
+    void flush(String tableName);
+
+    /**
+     * 刷新所有表写缓冲区
+     */
+    void flush();
+
+    /**
+     * 保存实体, 立即写入
+     *  实体需标注{@link cn.darkjrong.hbase.annotation.HbaseTable}, 值为null的属性不写入
+     *
+     * @param entity 实体
+     */
+    <T> void save(T entity);
+
+    /**
+     * 批量保存实体, 立即写入
+     *
+     * @param entities 实体
+     */
+    <T> void save(List<T> entities);
+
+    /**
+     * 按行Key查询实体
+     *
+     * @param entityClass 实体类
+     * @param id          行Key
+     * @return {@link T}, 不存在返回null
+     */
+    <T> T findById(Class<T> entityClass, Object id);
+
+    /**
+     * 查询全部实体
+     *
+     * @param entityClass 实体类
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> findAll(Class<T> entityClass);
+
+    /**
+     * 查询实体
+     *
+     * @param entityClass 实体类
+     * @param scan        查询对象
+     * @return {@link List}<{@link T}>
+     */
+    <T> List<T> findAll(Class<T> entityClass, Scan scan);
+
 
 
 
@@ -1,30 +1,64 @@
 package cn.darkjrong.hbase;
 
 import cn.darkjrong.hbase.callback.*;
+import cn.darkjrong.hbase.distributor.RowKeyDistributor;
+import cn.darkjrong.hbase.domain.ScanPage;
 import cn.darkjrong.hbase.domain.ServerInfo;
 import cn.darkjrong.hbase.domain.TableInfo;
 import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.darkjrong.hbase.mapping.HbaseEntity;
+import cn.darkjrong.hbase.mapping.HbaseMappingContext;
+import cn.darkjrong.hbase.metrics.CountingResultScanner;
+import cn.darkjrong.hbase.metrics.HbaseMetrics;
+import cn.darkjrong.hbase.scan.MergeMode;
+import cn.darkjrong.hbase.scan.ParallelScanner;
+import cn.darkjrong.hbase.scan.ScanPipeline;
+import cn.darkjrong.hbase.support.AggregationEndpoint;
+import cn.darkjrong.hbase.support.BufferedMutatorPool;
+import cn.darkjrong.hbase.support.ClusterMetadataIndex;
+import cn.darkjrong.hbase.support.GetBatcher;
+import cn.darkjrong.hbase.support.RowCache;
+import cn.darkjrong.hbase.support.ScannerIterator;
+import cn.darkjrong.hbase.support.SingleFlight;
+import cn.hutool.core.codec.Base64;
 import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.NumberUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.NamespaceDescriptor;
 import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableExistsException;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.TableNotDisabledException;
+import org.apache.hadoop.hbase.TableNotEnabledException;
+import org.apache.hadoop.hbase.TableNotFoundException;
 import org.apache.hadoop.hbase.client.*;
-import org.springframework.util.StopWatch;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
+import org.apache.hadoop.hbase.filter.KeyOnlyFilter;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * hbase模板
@@ -36,12 +70,169 @@ import java.util.stream.Collectors;
 @Getter
 public class HbaseTemplate implements HbaseOperations {
 
-    private final HBaseAdmin admin;
+    public static final int DEFAULT_MULTI_GET_BATCH_SIZE = 1000;
+
+    /**
+     * 计数及聚合扫描每次RPC返回的行数
+     */
+    public static final int AGGREGATE_CACHING = 5000;
+
+    private volatile HBaseAdmin admin;
     private final Connection connection;
+    private final BufferedMutatorPool mutatorPool;
+
+    /**
+     * 批量获取时单次请求的最大行数, 超过后拆分为多次请求
+     */
+    @Setter
+    private int multiGetBatchSize = DEFAULT_MULTI_GET_BATCH_SIZE;
+
+    /**
+     * region并行扫描, 未设置时首次使用创建
+     */
+    @Setter
+    private volatile ParallelScanner parallelScanner;
+
+    /**
+     * 指标记录
+     */
+    @Setter
+    private HbaseMetrics metrics = HbaseMetrics.NOOP;
+
+    /**
+     * 实体映射上下文
+     */
+    @Setter
+    private HbaseMappingContext mappingContext = new HbaseMappingContext();
+
+    /**
+     * 集群元数据索引, 未设置时首次使用创建
+     */
+    @Setter
+    private volatile ClusterMetadataIndex metadataIndex;
+
+    /**
+     * 行缓存, 按表开启
+     */
+    private final Map<String, RowCache> rowCaches = new ConcurrentHashMap<>();
+
+    /**
+     * 是否合并并发的相同读取(表, 行Key, 列族/字段相同), 合并后只发送一次请求
+     */
+    @Setter
+    private boolean collapseGets = Boolean.TRUE;
+
+    /**
+     * 进行中的读取
+     */
+    private final SingleFlight<List<Object>, Result> getFlights = new SingleFlight<>();
+
+    /**
+     * 单行读取合并批处理, 为null时不合并
+     */
+    @Setter
+    private GetBatcher getBatcher;
+
+    /**
+     * 聚合协处理器端点, 为null时计数只使用并行扫描
+     */
+    @Setter
+    private AggregationEndpoint aggregationEndpoint;
+
+    /**
+     * 扫描流水线, 为null时流水线查询退化为普通查询
+     */
+    @Setter
+    private ScanPipeline scanPipeline;
+
+    /**
+     * 行Key分散策略, 按表注册
+     */
+    private final Map<String, RowKeyDistributor> distributors = new ConcurrentHashMap<>();
+
+    public HbaseTemplate(Connection connection) {
+        this(connection, new BufferedMutatorPool(connection));
+    }
+
+    /**
+     * 管理对象在首次使用时从连接创建, 数据与管理操作共用同一连接
+     *
+     * @param connection  连接
+     * @param mutatorPool mutator池
+     */
+    public HbaseTemplate(Connection connection, BufferedMutatorPool mutatorPool) {
+        this(connection, null, mutatorPool);
+    }
 
     public HbaseTemplate(Connection connection, HBaseAdmin admin) {
+        this(connection, admin, new BufferedMutatorPool(connection));
+    }
+
+    public HbaseTemplate(Connection connection, HBaseAdmin admin, BufferedMutatorPool mutatorPool) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.notNull(mutatorPool, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mutatorPool"));
         this.admin = admin;
         this.connection = connection;
+        this.mutatorPool = mutatorPool;
+    }
+
+    /**
+     * 获取管理对象, 未指定时从连接创建
+     *
+     * @return {@link HBaseAdmin}
+     */
+    public HBaseAdmin getAdmin() {
+        HBaseAdmin current = admin;
+        if (ObjectUtil.isNull(current)) {
+            synchronized (this) {
+                if (ObjectUtil.isNull(admin)) {
+                    try {
+                        admin = (HBaseAdmin) connection.getAdmin();
+                    } catch (IOException e) {
+                        log.error("getAdmin", e);
+                        throw new HbaseException(e);
+                    }
+                }
+                current = admin;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 获取并行扫描, 未设置时创建
+     *
+     * @return {@link ParallelScanner}
+     */
+    private ParallelScanner parallelScanner() {
+        ParallelScanner current = parallelScanner;
+        if (ObjectUtil.isNull(current)) {
+            synchronized (this) {
+                if (ObjectUtil.isNull(parallelScanner)) {
+                    parallelScanner = new ParallelScanner(connection);
+                }
+                current = parallelScanner;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 获取集群元数据索引, 未设置时创建
+     *
+     * @return {@link ClusterMetadataIndex}
+     */
+    private ClusterMetadataIndex metadataIndex() {
+        ClusterMetadataIndex current = metadataIndex;
+        if (ObjectUtil.isNull(current)) {
+            synchronized (this) {
+                if (ObjectUtil.isNull(metadataIndex)) {
+                    metadataIndex = new ClusterMetadataIndex(connection);
+                }
+                current = metadataIndex;
+            }
+        }
+        return current;
     }
 
     /**
@@ -53,7 +244,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean tableExists(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         try {
-            return admin.tableExists(TableName.valueOf(tableName));
+            return getAdmin().tableExists(TableName.valueOf(tableName));
         } catch (IOException e) {
             log.error("tableExists" , e);
         }
@@ -68,16 +259,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public RegionInfo getRegion(String regionName) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
-
-        List<RegionInfo> regionInfos = CollectionUtil.newArrayList();
-        List<ServerInfo> regionServers = getRegionServers();
-        if (CollectionUtil.isNotEmpty(regionServers)) {
-            regionServers.forEach(a -> regionInfos.addAll(getRegionsByServer(a.getName())));
+        try {
+            return metadataIndex().getRegion(regionName);
+        } catch (HbaseException e) {
+            log.error("getRegion", e);
         }
-
-        return regionInfos.stream()
-                .filter(a -> StrUtil.equals(regionName, a.getRegionNameAsString()))
-                .findAny().orElse(null);
+        return null;
     }
 
     /**
@@ -89,7 +276,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<RegionInfo> getRegionsByTable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         try {
-            return admin.getRegions(TableName.valueOf(tableName));
+            return getAdmin().getRegions(TableName.valueOf(tableName));
         } catch (IOException e) {
             log.error("getRegionsByTable" , e);
         }
@@ -105,7 +292,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<RegionInfo> getRegionsByServer(String serverName) {
         Assert.notBlank(serverName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "serverName"));
         try {
-            return admin.getRegions(ServerName.valueOf(serverName));
+            return getAdmin().getRegions(ServerName.valueOf(serverName));
         } catch (IOException e) {
             log.error("getRegionsByServer" , e);
         }
@@ -119,7 +306,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<TableDescriptor> getTableDescriptors() {
         try {
-            return admin.listTableDescriptors();
+            return getAdmin().listTableDescriptors();
         } catch (Exception e) {
             log.error("listTableDescriptors", e);
         }
@@ -146,7 +333,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<TableDescriptor> getTableDescriptors(Pattern pattern, boolean includeSysTables) {
         Assert.notNull(pattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pattern"));
         try {
-           return admin.listTableDescriptors(pattern, includeSysTables);
+           return getAdmin().listTableDescriptors(pattern, includeSysTables);
         } catch (Exception e) {
             log.error("getTableDescriptors", e);
         }
@@ -160,7 +347,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<TableInfo> getTableNames() {
         try {
-            TableName[] tableNames = admin.listTableNames();
+            TableName[] tableNames = getAdmin().listTableNames();
             return tableInfos(CollectionUtil.newArrayList(tableNames));
         } catch (IOException e) {
             log.error("getTableNames", e);
@@ -175,11 +362,11 @@ public class HbaseTemplate implements HbaseOperations {
      * @return {@link TableInfo}
      */
     public TableInfo getTableName(String tableName) {
-        List<TableInfo> tableNames = getTableNames();
-        if (CollectionUtil.isNotEmpty(tableNames)) {
-            return tableNames.stream()
-                    .filter(a -> StrUtil.equals(a.getName(), tableName))
-                    .findAny().orElse(null);
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        try {
+            return tableInfo(metadataIndex().getTableName(tableName));
+        } catch (HbaseException e) {
+            log.error("getTableName", e);
         }
         return null;
     }
@@ -204,7 +391,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<TableInfo> getTableNames(Pattern pattern, boolean includeSysTables) {
         Assert.notNull(pattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pattern"));
         try {
-            TableName[] tableNames = admin.listTableNames(pattern, includeSysTables);
+            TableName[] tableNames = getAdmin().listTableNames(pattern, includeSysTables);
             return tableInfos(CollectionUtil.newArrayList(tableNames));
         } catch (IOException e) {
             log.error("getTableNames", e);
@@ -222,7 +409,7 @@ public class HbaseTemplate implements HbaseOperations {
     public TableDescriptor getTableDescriptor(String tableName) throws HbaseException {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         try {
-           return admin.getDescriptor(TableName.valueOf(tableName));
+           return getAdmin().getDescriptor(TableName.valueOf(tableName));
         } catch (IOException e) {
             log.error("getDescriptor", e);
             throw new HbaseException(e);
@@ -251,18 +438,23 @@ public class HbaseTemplate implements HbaseOperations {
             columnFamily = HbaseConstant.DEFAULT_COLUMN_FAMILY;
         }
 
-        if (!tableExists(tableName)) {
-            ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily)).setMaxVersions(1).build();
-            TableDescriptor tableDescriptor = TableDescriptorBuilder.newBuilder(TableName.valueOf(tableName)).setColumnFamily(cfd).build();
-            try {
-                admin.createTable(tableDescriptor);
-                return Boolean.TRUE;
-            } catch (Exception e) {
-                log.error("createTable", e);
-                return Boolean.FALSE;
+        ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily)).setMaxVersions(1).build();
+        TableDescriptor tableDescriptor = TableDescriptorBuilder.newBuilder(TableName.valueOf(tableName)).setColumnFamily(cfd).build();
+        RowKeyDistributor distributor = distributors.get(tableName);
+        try {
+            if (ObjectUtil.isNotNull(distributor) && ArrayUtil.isNotEmpty(distributor.getSplitKeys())) {
+                getAdmin().createTable(tableDescriptor, distributor.getSplitKeys());
+            } else {
+                getAdmin().createTable(tableDescriptor);
             }
+            metadataIndex().invalidate();
+            return Boolean.TRUE;
+        } catch (TableExistsException e) {
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            log.error("createTable", e);
+            return Boolean.FALSE;
         }
-        return Boolean.TRUE;
     }
 
     /**
@@ -275,18 +467,18 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean createTable(String tableName, String startKey, String endKey, int numRegions) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (!tableExists(tableName)) {
-            ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(HbaseConstant.DEFAULT_COLUMN_FAMILY)).setMaxVersions(1).build();
-            TableDescriptor tableDescriptor = TableDescriptorBuilder.newBuilder(TableName.valueOf(tableName)).setColumnFamily(cfd).build();
-            try {
-                admin.createTable(tableDescriptor, HbaseUtils.toBytes(startKey), HbaseUtils.toBytes(endKey), numRegions);
-                return Boolean.TRUE;
-            } catch (Exception e) {
-                log.error("createTable", e);
-                return Boolean.FALSE;
-            }
+        ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(HbaseConstant.DEFAULT_COLUMN_FAMILY)).setMaxVersions(1).build();
+        TableDescriptor tableDescriptor = TableDescriptorBuilder.newBuilder(TableName.valueOf(tableName)).setColumnFamily(cfd).build();
+        try {
+            getAdmin().createTable(tableDescriptor, HbaseUtils.toBytes(startKey), HbaseUtils.toBytes(endKey), numRegions);
+            metadataIndex().invalidate();
+            return Boolean.TRUE;
+        } catch (TableExistsException e) {
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            log.error("createTable", e);
+            return Boolean.FALSE;
         }
-        return Boolean.TRUE;
     }
 
     /**
@@ -297,16 +489,19 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean deleteTable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (disableTable(tableName)) {
-            try {
-                admin.deleteTable(TableName.valueOf(tableName));
-                return Boolean.TRUE;
-            } catch (Exception e) {
-                log.error("deleteTable", e);
-                return Boolean.FALSE;
-            }
+        disableTable(tableName);
+        try {
+            getAdmin().deleteTable(TableName.valueOf(tableName));
+            metadataIndex().invalidate();
+            Optional.ofNullable(rowCaches.get(tableName)).ifPresent(RowCache::invalidateAll);
+            return Boolean.TRUE;
+        } catch (TableNotFoundException e) {
+            log.debug("deleteTable, table {} not found", tableName);
+            return Boolean.FALSE;
+        } catch (Exception e) {
+            log.error("deleteTable", e);
+            return Boolean.FALSE;
         }
-        return Boolean.TRUE;
     }
 
     /**
@@ -317,13 +512,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean disableTable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName) && !isTableDisabled(tableName)) {
-            try {
-                admin.disableTable(TableName.valueOf(tableName));
-                return Boolean.TRUE;
-            } catch (Exception e) {
-                log.error("disableTable", e);
-            }
+        try {
+            getAdmin().disableTable(TableName.valueOf(tableName));
+        } catch (TableNotFoundException | TableNotEnabledException e) {
+            log.debug("disableTable, table {} : {}", tableName, e.getClass().getSimpleName());
+        } catch (Exception e) {
+            log.error("disableTable", e);
         }
         return Boolean.TRUE;
     }
@@ -336,12 +530,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean isTableDisabled(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName)) {
-            try {
-                return admin.isTableDisabled(TableName.valueOf(tableName));
-            } catch (Exception e) {
-                log.error("isTableDisabled", e);
-            }
+        try {
+            return getAdmin().isTableDisabled(TableName.valueOf(tableName));
+        } catch (TableNotFoundException e) {
+            log.debug("isTableDisabled, table {} not found", tableName);
+        } catch (Exception e) {
+            log.error("isTableDisabled", e);
         }
         return Boolean.FALSE;
     }
@@ -354,13 +548,13 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean enableTable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName) && !isTableEnabled(tableName)) {
-            try {
-                admin.enableTable(TableName.valueOf(tableName));
-                return Boolean.TRUE;
-            } catch (Exception e) {
-                log.error("enableTable", e);
-            }
+        try {
+            getAdmin().enableTable(TableName.valueOf(tableName));
+            return Boolean.TRUE;
+        } catch (TableNotFoundException | TableNotDisabledException e) {
+            log.debug("enableTable, table {} : {}", tableName, e.getClass().getSimpleName());
+        } catch (Exception e) {
+            log.error("enableTable", e);
         }
         return Boolean.FALSE;
     }
@@ -373,12 +567,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean isTableEnabled(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName)) {
-            try {
-                return admin.isTableEnabled(TableName.valueOf(tableName));
-            } catch (Exception e) {
-                log.error("isTableEnabled", e);
-            }
+        try {
+            return getAdmin().isTableEnabled(TableName.valueOf(tableName));
+        } catch (TableNotFoundException e) {
+            log.debug("isTableEnabled, table {} not found", tableName);
+        } catch (Exception e) {
+            log.error("isTableEnabled", e);
         }
         return Boolean.FALSE;
     }
@@ -391,12 +585,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean isTableAvailable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName)) {
-            try {
-                return admin.isTableAvailable(TableName.valueOf(tableName));
-            } catch (Exception e) {
-                log.error("isTableAvailable", e);
-            }
+        try {
+            return getAdmin().isTableAvailable(TableName.valueOf(tableName));
+        } catch (TableNotFoundException e) {
+            log.debug("isTableAvailable, table {} not found", tableName);
+        } catch (Exception e) {
+            log.error("isTableAvailable", e);
         }
         return Boolean.FALSE;
     }
@@ -412,14 +606,14 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
 
-        if (tableExists(tableName)) {
-            ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily)).setMaxVersions(1).build();
-            try {
-                admin.addColumnFamily(TableName.valueOf(tableName), cfd);
-                return Boolean.TRUE;
-            } catch (IOException e) {
-                log.error("addColumnFamily", e);
-            }
+        ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily)).setMaxVersions(1).build();
+        try {
+            getAdmin().addColumnFamily(TableName.valueOf(tableName), cfd);
+            return Boolean.TRUE;
+        } catch (TableNotFoundException e) {
+            log.debug("addColumnFamily, table {} not found", tableName);
+        } catch (IOException e) {
+            log.error("addColumnFamily", e);
         }
         return Boolean.FALSE;
     }
@@ -435,13 +629,13 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
 
-        if (tableExists(tableName)) {
-            try {
-                admin.deleteColumnFamily(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily));
-                return Boolean.TRUE;
-            } catch (IOException e) {
-                log.error("deleteColumnFamily", e);
-            }
+        try {
+            getAdmin().deleteColumnFamily(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily));
+            return Boolean.TRUE;
+        } catch (TableNotFoundException e) {
+            log.debug("deleteColumnFamily, table {} not found", tableName);
+        } catch (IOException e) {
+            log.error("deleteColumnFamily", e);
         }
         return Boolean.FALSE;
     }
@@ -456,15 +650,15 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean modifyColumnFamily(String tableName, String columnFamily) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
-        if (tableExists(tableName)) {
-            ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily))
-                    .setMaxVersions(1).build();
-            try {
-                admin.modifyColumnFamily(TableName.valueOf(tableName), cfd);
-                return Boolean.TRUE;
-            } catch (IOException e) {
-                log.error("modifyColumnFamily", e);
-            }
+        ColumnFamilyDescriptor cfd = ColumnFamilyDescriptorBuilder.newBuilder(HbaseUtils.toBytes(columnFamily))
+                .setMaxVersions(1).build();
+        try {
+            getAdmin().modifyColumnFamily(TableName.valueOf(tableName), cfd);
+            return Boolean.TRUE;
+        } catch (TableNotFoundException e) {
+            log.debug("modifyColumnFamily, table {} not found", tableName);
+        } catch (IOException e) {
+            log.error("modifyColumnFamily", e);
         }
         return Boolean.FALSE;
     }
@@ -488,13 +682,13 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Boolean flushTable(String tableName, String columnFamily) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName)) {
-            try {
-                admin.flush(TableName.valueOf(tableName), StrUtil.isBlank(columnFamily) ? null : HbaseUtils.toBytes(columnFamily));
-                return Boolean.TRUE;
-            } catch (IOException e) {
-                log.error("flushTable", e);
-            }
+        try {
+            getAdmin().flush(TableName.valueOf(tableName), StrUtil.isBlank(columnFamily) ? null : HbaseUtils.toBytes(columnFamily));
+            return Boolean.TRUE;
+        } catch (TableNotFoundException e) {
+            log.debug("flushTable, table {} not found", tableName);
+        } catch (IOException e) {
+            log.error("flushTable", e);
         }
         return Boolean.FALSE;
     }
@@ -518,7 +712,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean flushRegion(String regionName, String columnFamily) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         try {
-            admin.flushRegion(HbaseUtils.toBytes(regionName), StrUtil.isBlank(columnFamily) ? null : HbaseUtils.toBytes(columnFamily));
+            getAdmin().flushRegion(HbaseUtils.toBytes(regionName), StrUtil.isBlank(columnFamily) ? null : HbaseUtils.toBytes(columnFamily));
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("flushRegion", e);
@@ -535,7 +729,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean flushRegionServer(String serverName) {
         Assert.notBlank(serverName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "serverName"));
         try {
-            admin.flushRegionServer(ServerName.valueOf(serverName));
+            getAdmin().flushRegionServer(ServerName.valueOf(serverName));
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("flushRegionServer", e);
@@ -577,7 +771,7 @@ public class HbaseTemplate implements HbaseOperations {
             compactType = CompactType.NORMAL;
         }
         try {
-            admin.compact(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily), compactType);
+            getAdmin().compact(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily), compactType);
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("compactTable", e);
@@ -605,7 +799,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean compactRegion(String regionName, String columnFamily) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         try {
-            admin.compactRegion(HbaseUtils.toBytes(regionName), HbaseUtils.toBytes(columnFamily));
+            getAdmin().compactRegion(HbaseUtils.toBytes(regionName), HbaseUtils.toBytes(columnFamily));
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("compactRegion", e);
@@ -648,7 +842,7 @@ public class HbaseTemplate implements HbaseOperations {
             compactType = CompactType.NORMAL;
         }
         try {
-            admin.majorCompact(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily), compactType);
+            getAdmin().majorCompact(TableName.valueOf(tableName), HbaseUtils.toBytes(columnFamily), compactType);
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("majorCompactTable", e);
@@ -676,7 +870,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean majorCompactRegion(String regionName, String columnFamily) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         try {
-            admin.majorCompactRegion(HbaseUtils.toBytes(regionName), HbaseUtils.toBytes(columnFamily));
+            getAdmin().majorCompactRegion(HbaseUtils.toBytes(regionName), HbaseUtils.toBytes(columnFamily));
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("majorCompactRegion", e);
@@ -693,7 +887,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean compactRegionServer(String serverName) {
         Assert.notBlank(serverName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "serverName"));
         try {
-            admin.compactRegionServer(ServerName.valueOf(serverName));
+            getAdmin().compactRegionServer(ServerName.valueOf(serverName));
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("compactRegionServer", e);
@@ -710,7 +904,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean majorCompactRegionServer(String serverName) {
         Assert.notBlank(serverName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "serverName"));
         try {
-            admin.majorCompactRegionServer(ServerName.valueOf(serverName));
+            getAdmin().majorCompactRegionServer(ServerName.valueOf(serverName));
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("majorCompactRegionServer", e);
@@ -727,7 +921,8 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean assignRegion(String regionName) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         try {
-            admin.assign(HbaseUtils.toBytes(regionName));
+            getAdmin().assign(HbaseUtils.toBytes(regionName));
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("assignRegion", e);
@@ -744,7 +939,8 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean unassignRegion(String regionName) {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         try {
-            admin.unassign(HbaseUtils.toBytes(regionName));
+            getAdmin().unassign(HbaseUtils.toBytes(regionName));
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("unassignRegion", e);
@@ -769,7 +965,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<ServerInfo> getRegionServers(boolean excludeDecommissionedRS) {
         try {
-            Collection<ServerName> regionServers = admin.getRegionServers(excludeDecommissionedRS);
+            Collection<ServerName> regionServers = getAdmin().getRegionServers(excludeDecommissionedRS);
             if (CollectionUtil.isNotEmpty(regionServers)) {
                 return regionServers.stream().map(a -> {
                     ServerInfo serverInfo = new ServerInfo();
@@ -807,7 +1003,8 @@ public class HbaseTemplate implements HbaseOperations {
         RegionInfo regionInfo = getRegion(regionName);
         Assert.notNull(regionInfo, HbaseExceptionEnum.getException(HbaseExceptionEnum.SPECIFIED_VALUE, regionName));
         try {
-            admin.move(regionInfo.getEncodedNameAsBytes(), StrUtil.isBlank(destServerName) ? null : ServerName.valueOf(destServerName));
+            getAdmin().move(regionInfo.getEncodedNameAsBytes(), StrUtil.isBlank(destServerName) ? null : ServerName.valueOf(destServerName));
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("moveRegion", e);
@@ -826,7 +1023,8 @@ public class HbaseTemplate implements HbaseOperations {
         RegionInfo regionInfo = getRegion(regionName);
         Assert.notNull(regionInfo, HbaseExceptionEnum.getException(HbaseExceptionEnum.SPECIFIED_VALUE, regionName));
         try {
-            admin.offline(HbaseUtils.toBytes(regionName));
+            getAdmin().offline(HbaseUtils.toBytes(regionName));
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("offlineRegion", e);
@@ -854,8 +1052,9 @@ public class HbaseTemplate implements HbaseOperations {
         regions.toArray(bytes);
 
         try {
-            Future<Void> future = admin.mergeRegionsAsync(bytes, forcible);
-            future.get(admin.getSyncWaitTimeout(), TimeUnit.MILLISECONDS);
+            Future<Void> future = getAdmin().mergeRegionsAsync(bytes, forcible);
+            future.get(getAdmin().getSyncWaitTimeout(), TimeUnit.MILLISECONDS);
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (Exception e) {
             log.error("mergeRegions", e);
@@ -874,7 +1073,7 @@ public class HbaseTemplate implements HbaseOperations {
 
         NamespaceDescriptor namespaceDescriptor = NamespaceDescriptor.create(name).build();
         try {
-            admin.createNamespace(namespaceDescriptor);
+            getAdmin().createNamespace(namespaceDescriptor);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("createNamespace", e);
@@ -894,7 +1093,7 @@ public class HbaseTemplate implements HbaseOperations {
 
         NamespaceDescriptor namespaceDescriptor = NamespaceDescriptor.create(name).addConfiguration(configuration).build();
         try {
-            admin.createNamespace(namespaceDescriptor);
+            getAdmin().createNamespace(namespaceDescriptor);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("createNamespace", e);
@@ -912,7 +1111,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         NamespaceDescriptor namespaceDescriptor = NamespaceDescriptor.create(name).addConfiguration(configuration).build();
         try {
-            admin.modifyNamespace(namespaceDescriptor);
+            getAdmin().modifyNamespace(namespaceDescriptor);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("modifyNamespace", e);
@@ -932,7 +1131,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         NamespaceDescriptor namespaceDescriptor = NamespaceDescriptor.create(name).addConfiguration(key, value).build();
         try {
-            admin.modifyNamespace(namespaceDescriptor);
+            getAdmin().modifyNamespace(namespaceDescriptor);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("modifyNamespace", e);
@@ -949,7 +1148,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean deleteNamespace(String name) {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         try {
-            admin.deleteNamespace(name);
+            getAdmin().deleteNamespace(name);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("deleteNamespace", e);
@@ -968,7 +1167,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         NamespaceDescriptor namespaceDescriptor = NamespaceDescriptor.create(name).removeConfiguration(key).build();
         try {
-            admin.modifyNamespace(namespaceDescriptor);
+            getAdmin().modifyNamespace(namespaceDescriptor);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("deleteNamespace", e);
@@ -986,7 +1185,7 @@ public class HbaseTemplate implements HbaseOperations {
     public NamespaceDescriptor getNamespaceDescriptor(String name) throws HbaseException {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         try {
-            return admin.getNamespaceDescriptor(name);
+            return getAdmin().getNamespaceDescriptor(name);
         } catch (Exception e) {
             log.error("getNamespaceDescriptor", e);
             throw new HbaseException(e);
@@ -1000,7 +1199,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<String> getNamespaces() {
         try {
-            return CollectionUtil.newArrayList(admin.listNamespaces());
+            return CollectionUtil.newArrayList(getAdmin().listNamespaces());
         } catch (IOException e) {
             log.error("listNamespaces", e);
         }
@@ -1014,7 +1213,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<NamespaceDescriptor> getNamespaceDescriptors() {
         try {
-            return CollectionUtil.newArrayList(admin.listNamespaceDescriptors());
+            return CollectionUtil.newArrayList(getAdmin().listNamespaceDescriptors());
         } catch (IOException e) {
             log.error("getNamespaceDescriptors", e);
         }
@@ -1030,7 +1229,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<TableDescriptor> getTableDescriptorsByNamespace(String name) {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         try {
-            return admin.listTableDescriptorsByNamespace(HbaseUtils.toBytes(name));
+            return getAdmin().listTableDescriptorsByNamespace(HbaseUtils.toBytes(name));
         } catch (Exception e) {
             log.error("getTableDescriptorsByNamespace", e);
         }
@@ -1046,7 +1245,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<TableName> getTableNamesByNamespace(String name) {
         Assert.notBlank(name, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "name"));
         try {
-            return CollectionUtil.newArrayList(admin.listTableNamesByNamespace(name));
+            return CollectionUtil.newArrayList(getAdmin().listTableNamesByNamespace(name));
         } catch (Exception e) {
             log.error("getTableNamesByNamespace", e);
         }
@@ -1064,7 +1263,7 @@ public class HbaseTemplate implements HbaseOperations {
 
         List<TableName> names = tableNames.stream().map(TableName::valueOf).collect(Collectors.toList());
         try {
-            return admin.listTableDescriptors(names);
+            return getAdmin().listTableDescriptors(names);
         } catch (Exception e) {
             log.error("getTableDescriptors", e);
         }
@@ -1093,7 +1292,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
 
         try {
-            return admin.getCompactionState(TableName.valueOf(tableName), compactType);
+            return getAdmin().getCompactionState(TableName.valueOf(tableName), compactType);
         } catch (Exception e) {
             log.error("getCompactionStateByTable", e);
             throw new HbaseException(e);
@@ -1112,7 +1311,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(getRegion(regionName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, regionName));
 
         try {
-            return admin.getCompactionStateForRegion(HbaseUtils.toBytes(regionName));
+            return getAdmin().getCompactionStateForRegion(HbaseUtils.toBytes(regionName));
         } catch (Exception e) {
             log.error("getCompactionStateByRegion", e);
             throw new HbaseException(e);
@@ -1128,12 +1327,12 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public Long getLastMajorCompactionTimestampByTable(String tableName) {
         Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
-        if (tableExists(tableName)) {
-            try {
-                return admin.getLastMajorCompactionTimestamp(TableName.valueOf(tableName));
-            } catch (IOException e) {
-                log.error("getLastMajorCompactionTimestampByTable", e);
-            }
+        try {
+            return getAdmin().getLastMajorCompactionTimestamp(TableName.valueOf(tableName));
+        } catch (TableNotFoundException e) {
+            log.debug("getLastMajorCompactionTimestampByTable, table {} not found", tableName);
+        } catch (IOException e) {
+            log.error("getLastMajorCompactionTimestampByTable", e);
         }
         return 0L;
     }
@@ -1148,7 +1347,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(regionName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "regionName"));
         if (ObjectUtil.isNotNull(getRegion(regionName))) {
             try {
-                return admin.getLastMajorCompactionTimestampForRegion(HbaseUtils.toBytes(regionName));
+                return getAdmin().getLastMajorCompactionTimestampForRegion(HbaseUtils.toBytes(regionName));
             } catch (IOException e) {
                 log.error("getLastMajorCompactionTimestampByRegion", e);
             }
@@ -1193,7 +1392,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
 
         try {
-            admin.snapshot(snapshotName, TableName.valueOf(tableName), type, snapshotProps);
+            getAdmin().snapshot(snapshotName, TableName.valueOf(tableName), type, snapshotProps);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("snapshot", e);
@@ -1222,7 +1421,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean createSnapshot(SnapshotDescription snapshot) {
         Assert.notNull(snapshot, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshot"));
         try {
-            admin.snapshot(snapshot);
+            getAdmin().snapshot(snapshot);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("snapshot", e);
@@ -1278,7 +1477,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean isSnapshotFinished(SnapshotDescription snapshot) {
         Assert.notNull(snapshot, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshot"));
         try {
-            return admin.isSnapshotFinished(snapshot);
+            return getAdmin().isSnapshotFinished(snapshot);
         } catch (IOException e) {
             log.error("isSnapshotFinished", e);
         }
@@ -1320,7 +1519,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean restoreSnapshot(String snapshotName, boolean takeFailSafeSnapshot, boolean restoreAcl) {
         Assert.notNull(snapshotName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshotName"));
         try {
-            admin.restoreSnapshot(snapshotName, takeFailSafeSnapshot, restoreAcl);
+            getAdmin().restoreSnapshot(snapshotName, takeFailSafeSnapshot, restoreAcl);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("restoreSnapshot", e);
@@ -1342,7 +1541,8 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
 
         try {
-            admin.cloneSnapshot(snapshotName, TableName.valueOf(tableName), restoreAcl, customSFT);
+            getAdmin().cloneSnapshot(snapshotName, TableName.valueOf(tableName), restoreAcl, customSFT);
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("cloneSnapshot", e);
@@ -1380,7 +1580,7 @@ public class HbaseTemplate implements HbaseOperations {
      */
     public List<SnapshotDescription> getSnapshots() {
         try {
-            return admin.listSnapshots();
+            return getAdmin().listSnapshots();
         } catch (IOException e) {
             log.error("getSnapshots", e);
         }
@@ -1414,7 +1614,7 @@ public class HbaseTemplate implements HbaseOperations {
     public List<SnapshotDescription> getSnapshots(Pattern pattern) {
         Assert.notNull(pattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pattern"));
         try {
-            return admin.listSnapshots(pattern);
+            return getAdmin().listSnapshots(pattern);
         } catch (IOException e) {
             log.error("getSnapshots", e);
         }
@@ -1433,7 +1633,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(snapshotNamePattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshotNamePattern"));
 
         try {
-            return admin.listTableSnapshots(tableNamePattern, snapshotNamePattern);
+            return getAdmin().listTableSnapshots(tableNamePattern, snapshotNamePattern);
         } catch (IOException e) {
             log.error("getTableSnapshots", e);
         }
@@ -1469,7 +1669,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(snapshotName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshotName"));
         if (ObjectUtil.isEmpty(getSnapshot(snapshotName))) return Boolean.TRUE;
         try {
-            admin.deleteSnapshot(snapshotName);
+            getAdmin().deleteSnapshot(snapshotName);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("deleteSnapshot", e);
@@ -1486,7 +1686,7 @@ public class HbaseTemplate implements HbaseOperations {
     public Boolean deleteSnapshots(Pattern pattern) {
         Assert.notNull(pattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pattern"));
         try {
-            admin.deleteSnapshots(pattern);
+            getAdmin().deleteSnapshots(pattern);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("deleteSnapshots", e);
@@ -1505,7 +1705,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(tableNamePattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableNamePattern"));
         Assert.notNull(snapshotNamePattern, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "snapshotNamePattern"));
         try {
-            admin.deleteTableSnapshots(tableNamePattern, snapshotNamePattern);
+            getAdmin().deleteTableSnapshots(tableNamePattern, snapshotNamePattern);
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("deleteTableSnapshots", e);
@@ -1538,7 +1738,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
         try {
-            admin.enableTableReplication(TableName.valueOf(tableName));
+            getAdmin().enableTableReplication(TableName.valueOf(tableName));
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("enableTableReplication", e);
@@ -1557,7 +1757,7 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
         try {
-            admin.disableTableReplication(TableName.valueOf(tableName));
+            getAdmin().disableTableReplication(TableName.valueOf(tableName));
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("disableTableReplication", e);
@@ -1578,7 +1778,8 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notNull(newTableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "newTableName"));
         Assert.isTrue(tableExists(tableName), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, tableName));
         try {
-            admin.cloneTableSchema(TableName.valueOf(tableName), TableName.valueOf(newTableName), preserveSplits);
+            getAdmin().cloneTableSchema(TableName.valueOf(tableName), TableName.valueOf(newTableName), preserveSplits);
+            metadataIndex().invalidate();
             return Boolean.TRUE;
         } catch (IOException e) {
             log.error("cloneTable", e);
@@ -1614,36 +1815,43 @@ public class HbaseTemplate implements HbaseOperations {
 
     @Override
     public <T> T execute(String tableName, MutatorCallback<T> action) {
+        return executeMutator(tableName, "execute", action);
+    }
+
+    @Override
+    public <T> T execute(String tableName, TableCallback<T> action) {
+        return executeTable(tableName, "execute", action);
+    }
+
+    private <T> T executeMutator(String tableName, String operation, MutatorCallback<T> action) {
         Assert.notNull(action, "Callback object must not be null");
         Assert.notNull(tableName, "No table specified");
 
-        StopWatch sw = new StopWatch();
-        sw.start();
-
-        BufferedMutator mutator = null;
+        long start = System.nanoTime();
+        boolean success = Boolean.FALSE;
         try {
-            BufferedMutatorParams mutatorParams = new BufferedMutatorParams(TableName.valueOf(tableName));
-            mutator = this.getConnection().getBufferedMutator(mutatorParams.writeBufferSize(3 * 1024 * 1024));
-            return action.doInMutator(mutator);
+            BufferedMutator mutator = mutatorPool.getMutator(tableName);
+            T result = action.doInMutator(mutator);
+            success = Boolean.TRUE;
+            return result;
         } catch (Throwable throwable) {
-            sw.stop();
             throw new HbaseException(throwable);
         } finally {
-            HbaseUtils.close(mutator);
+            metrics.recordOperation(tableName, operation, System.nanoTime() - start, success);
         }
     }
 
-    @Override
-    public <T> T execute(String tableName, TableCallback<T> action) {
+    private <T> T executeTable(String tableName, String operation, TableCallback<T> action) {
         Assert.notNull(action, "Callback object must not be null");
         Assert.notNull(tableName, "No table specified");
 
-        StopWatch sw = new StopWatch();
-        sw.start();
-
+        long start = System.nanoTime();
+        boolean success = Boolean.FALSE;
         Table table = getTable(tableName);
         try {
-            return action.doInTable(table);
+            T result = action.doInTable(table);
+            success = Boolean.TRUE;
+            return result;
         } catch (Throwable throwable) {
             if (throwable instanceof Error) {
                 throw (Error) throwable;
@@ -1651,6 +1859,7 @@ public class HbaseTemplate implements HbaseOperations {
             throw new HbaseException(throwable);
         } finally {
             HbaseUtils.close(table);
+            metrics.recordOperation(tableName, operation, System.nanoTime() - start, success);
         }
     }
 
@@ -1675,17 +1884,20 @@ public class HbaseTemplate implements HbaseOperations {
 
     @Override
     public <T> T find(String tableName, Scan scan, ResultsExtractor<T> action) {
-        return execute(tableName, new TableCallback<T>() {
+        return executeTable(tableName, "find", new TableCallback<T>() {
             @Override
             public T doInTable(Table table) {
-                ResultScanner scanner = null;
+                CountingResultScanner scanner = null;
                 try {
-                    scanner = table.getScanner(scan);
+                    scanner = new CountingResultScanner(getScanner(tableName, table, scan));
                     return action.extractData(scanner);
                 } catch (Exception e) {
                     log.error("find", e);
                     throw new HbaseException(e);
                 }finally {
+                    if (ObjectUtil.isNotNull(scanner)) {
+                        metrics.recordScanRows(tableName, scanner.getRows());
+                    }
                     HbaseUtils.close(scanner);
                 }
             }
@@ -1716,6 +1928,260 @@ public class HbaseTemplate implements HbaseOperations {
         return find(tableName, scan, new RowMapperResultsExtractor<>(action));
     }
 
+    @Override
+    public <T> T findParallel(String tableName, Scan scan, MergeMode mergeMode, ResultsExtractor<T> extractor) {
+        return findParallel(tableName, "findParallel", scan, mergeMode, extractor);
+    }
+
+    private <T> T findParallel(String tableName, String operation, Scan scan, MergeMode mergeMode, ResultsExtractor<T> extractor) {
+        Assert.notNull(extractor, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "extractor"));
+        long start = System.nanoTime();
+        boolean success = Boolean.FALSE;
+        CountingResultScanner scanner = null;
+        try {
+            RowKeyDistributor distributor = distributors.get(tableName);
+            scanner = new CountingResultScanner(ObjectUtil.isNull(distributor)
+                    ? parallelScanner().getScanner(tableName, scan, mergeMode)
+                    : distributedScanner(tableName, distributor, scan, MergeMode.UNORDERED.equals(mergeMode) ? mergeMode : MergeMode.SORTED));
+            T result = extractor.extractData(scanner);
+            success = Boolean.TRUE;
+            return result;
+        } catch (HbaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(operation, e);
+            throw new HbaseException(e);
+        } finally {
+            if (ObjectUtil.isNotNull(scanner)) {
+                metrics.recordScanRows(tableName, scanner.getRows());
+            }
+            HbaseUtils.close(scanner);
+            metrics.recordOperation(tableName, operation, System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public <T> List<T> findParallel(String tableName, Scan scan, MergeMode mergeMode, RowMapper<T> rowMapper) {
+        return findParallel(tableName, scan, mergeMode, new RowMapperResultsExtractor<>(rowMapper));
+    }
+
+    @Override
+    public <T> Stream<T> stream(String tableName, Scan scan, RowMapper<T> rowMapper) {
+        return iterator(tableName, scan, rowMapper).stream();
+    }
+
+    @Override
+    public <T> ScannerIterator<T> iterator(String tableName, Scan scan, RowMapper<T> rowMapper) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+
+        Table table = getTable(tableName);
+        try {
+            return new ScannerIterator<>(table, getScanner(tableName, table, scan), rowMapper);
+        } catch (IOException e) {
+            HbaseUtils.close(table);
+            log.error("iterator", e);
+            throw new HbaseException(e);
+        }
+    }
+
+    @Override
+    public <T> List<T> findPipelined(String tableName, Scan scan, RowMapper<T> rowMapper) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        Scan pipelined;
+        try {
+            pipelined = new Scan(scan);
+        } catch (IOException e) {
+            log.error("findPipelined", e);
+            throw new HbaseException(e);
+        }
+        // 映射当前批次时由客户端后台拉取下一批次
+        pipelined.setAsyncPrefetch(Boolean.TRUE);
+        return find(tableName, pipelined, ObjectUtil.isNull(scanPipeline)
+                ? new RowMapperResultsExtractor<>(rowMapper) : scanPipeline.extractor(rowMapper));
+    }
+
+    @Override
+    public <T> ScanPage<T> findPage(String tableName, Scan scan, String token, int pageSize, RowMapper<T> rowMapper) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.isTrue(pageSize > 0, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pageSize"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+
+        Scan pageScan;
+        try {
+            pageScan = new Scan(scan);
+            if (StrUtil.isNotBlank(token)) {
+                pageScan.withStartRow(Base64.decode(token), Boolean.FALSE);
+            }
+        } catch (IOException e) {
+            log.error("findPage", e);
+            throw new HbaseException(e);
+        }
+
+        // 多读一行用于判断是否存在下一页
+        pageScan.setLimit(pageSize + 1);
+        pageScan.setCaching(pageSize + 1);
+        pageScan.setBatch(-1);
+        pageScan.setAllowPartialResults(Boolean.FALSE);
+        return find(tableName, pageScan, scanner -> {
+            List<T> content = CollectionUtil.newArrayList();
+            byte[] lastRow = null;
+            int rowNum = 0;
+            boolean hasNext = Boolean.FALSE;
+            for (Result result : scanner) {
+                if (rowNum == pageSize) {
+                    hasNext = Boolean.TRUE;
+                    break;
+                }
+                lastRow = result.getRow();
+                Optional.ofNullable(rowMapper.mapRow(result, rowNum++)).ifPresent(content::add);
+            }
+            ScanPage<T> page = new ScanPage<>();
+            page.setContent(content);
+            page.setPageSize(pageSize);
+            page.setNextToken(hasNext ? Base64.encodeUrlSafe(lastRow) : null);
+            return page;
+        });
+    }
+
+    @Override
+    public long count(String tableName) {
+        return count(tableName, new Scan());
+    }
+
+    @Override
+    public long count(String tableName, Scan scan) {
+        Scan countScan = aggregateScan(scan);
+        // 只需行Key, 无过滤器时每行只读取第一个单元格
+        countScan.setFilter(ObjectUtil.isNull(scan.getFilter())
+                ? new FilterList(new FirstKeyOnlyFilter(), new KeyOnlyFilter())
+                : new FilterList(scan.getFilter(), new KeyOnlyFilter()));
+
+        if (ObjectUtil.isNotNull(aggregationEndpoint) && aggregationEndpoint.isDeployed(tableName)) {
+            try {
+                return executeTable(tableName, "count", table -> {
+                    RowKeyDistributor distributor = distributors.get(tableName);
+                    List<Scan> scans = ObjectUtil.isNull(distributor)
+                            ? Collections.singletonList(countScan) : distributor.getDistributedScans(countScan);
+                    long count = 0;
+                    for (Scan a : scans) {
+                        count += aggregationEndpoint.rowCount(table, a);
+                    }
+                    return count;
+                });
+            } catch (HbaseException e) {
+                log.warn("count {} by aggregation coprocessor failed, fall back to parallel scan: {}", tableName, e.getMessage());
+            }
+        }
+        return findParallel(tableName, "count", countScan, MergeMode.UNORDERED, scanner -> {
+            long count = 0;
+            for (Result ignored : scanner) {
+                count++;
+            }
+            return count;
+        });
+    }
+
+    @Override
+    public BigDecimal sum(String tableName, String columnFamily, String qualifier, Class<? extends Number> type) {
+        return sum(tableName, columnFamily, qualifier, type, new Scan());
+    }
+
+    @Override
+    public BigDecimal sum(String tableName, String columnFamily, String qualifier, Class<? extends Number> type, Scan scan) {
+        return aggregate(tableName, "sum", columnFamily, qualifier, type, scan, AggregationEndpoint::sum, BigDecimal.ZERO,
+                (sum, value) -> sum.add(NumberUtil.toBigDecimal(value)));
+    }
+
+    @Override
+    public <N extends Number & Comparable<N>> N min(String tableName, String columnFamily, String qualifier, Class<N> type) {
+        return min(tableName, columnFamily, qualifier, type, new Scan());
+    }
+
+    @Override
+    public <N extends Number & Comparable<N>> N min(String tableName, String columnFamily, String qualifier, Class<N> type, Scan scan) {
+        return aggregate(tableName, "min", columnFamily, qualifier, type, scan, AggregationEndpoint::min, null,
+                (min, value) -> ObjectUtil.isNull(min) || value.compareTo(min) < 0 ? value : min);
+    }
+
+    @Override
+    public <N extends Number & Comparable<N>> N max(String tableName, String columnFamily, String qualifier, Class<N> type) {
+        return max(tableName, columnFamily, qualifier, type, new Scan());
+    }
+
+    @Override
+    public <N extends Number & Comparable<N>> N max(String tableName, String columnFamily, String qualifier, Class<N> type, Scan scan) {
+        return aggregate(tableName, "max", columnFamily, qualifier, type, scan, AggregationEndpoint::max, null,
+                (max, value) -> ObjectUtil.isNull(max) || value.compareTo(max) > 0 ? value : max);
+    }
+
+    /**
+     * 单列聚合
+     *  表加载了聚合协处理器且列类型受支持({@link AggregationEndpoint#supports(Class)})时由region server计算, 失败时退化为并行扫描;
+     *  并行扫描时值按{@link HbaseUtils#getValue(Class, Cell)}解码并在客户端累积. 两者均为HBase Bytes大端序, 与本模板写入的编码一致; 不存在该列的行忽略
+     */
+    private <N extends Number, R> R aggregate(String tableName, String operation, String columnFamily, String qualifier,
+                                              Class<N> type, Scan scan, EndpointAggregation endpointAggregation,
+                                              R identity, BiFunction<R, N, R> accumulator) {
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+        Assert.notBlank(qualifier, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "qualifier"));
+        Assert.notNull(type, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "type"));
+
+        byte[] family = HbaseUtils.toBytes(columnFamily);
+        byte[] column = HbaseUtils.toBytes(qualifier);
+        Scan aggregateScan = aggregateScan(scan);
+        // 有过滤器时保留原投影, 以免过滤器依赖的列被裁剪
+        if (ObjectUtil.isNull(scan.getFilter())) {
+            aggregateScan.setFamilyMap(new TreeMap<>(Bytes.BYTES_COMPARATOR));
+        }
+        aggregateScan.addColumn(family, column);
+
+        if (ObjectUtil.isNotNull(aggregationEndpoint) && AggregationEndpoint.supports(type) && aggregationEndpoint.isDeployed(tableName)) {
+            try {
+                return executeTable(tableName, operation, table -> {
+                    RowKeyDistributor distributor = distributors.get(tableName);
+                    List<Scan> scans = ObjectUtil.isNull(distributor)
+                            ? Collections.singletonList(aggregateScan) : distributor.getDistributedScans(aggregateScan);
+                    R result = identity;
+                    for (Scan a : scans) {
+                        N value = endpointAggregation.aggregate(aggregationEndpoint, table, type, a);
+                        if (ObjectUtil.isNotNull(value)) {
+                            result = accumulator.apply(result, value);
+                        }
+                    }
+                    return result;
+                });
+            } catch (HbaseException e) {
+                log.warn("{} {} by aggregation coprocessor failed, fall back to parallel scan: {}", operation, tableName, e.getMessage());
+            }
+        }
+        return findParallel(tableName, operation, aggregateScan, MergeMode.UNORDERED, scanner -> {
+            R result = identity;
+            for (Result row : scanner) {
+                N value = HbaseUtils.getValue(type, row.getColumnLatestCell(family, column));
+                if (ObjectUtil.isNotNull(value)) {
+                    result = accumulator.apply(result, value);
+                }
+            }
+            return result;
+        });
+    }
+
+    private Scan aggregateScan(Scan scan) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        try {
+            Scan aggregateScan = new Scan(scan);
+            aggregateScan.readVersions(1);
+            aggregateScan.setCaching(AGGREGATE_CACHING);
+            aggregateScan.setCacheBlocks(Boolean.FALSE);
+            return aggregateScan;
+        } catch (IOException e) {
+            log.error("aggregateScan", e);
+            throw new HbaseException(e);
+        }
+    }
+
     @Override
     public <T> T get(String tableName, String rowKey, RowMapper<T> action) {
         return get(tableName, rowKey, null, null, action);
@@ -1728,17 +2194,69 @@ public class HbaseTemplate implements HbaseOperations {
 
     @Override
     public <T, ID extends Serializable> T get(String tableName, ID rowKey, String columnFamily, RowMapper<T> rowMapper) {
-        return execute(tableName, new TableCallback<T>() {
+        Get get = new Get(distributedKey(tableName, HbaseUtils.toRowKey(rowKey)));
+        if (StrUtil.isNotBlank(columnFamily)) {
+            byte[] family = HbaseUtils.toBytes(columnFamily);
+            get.addFamily(family);
+        }
+        return rowMapper.mapRow(getResult(tableName, get, RowCache.projection(columnFamily, null)), 0);
+    }
+
+    @Override
+    public <T> T get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> action) {
+        Get get = new Get(distributedKey(tableName, HbaseUtils.toBytes(rowKey)));
+        if (StrUtil.isNotBlank(columnFamily)) {
+            byte[] family = HbaseUtils.toBytes(columnFamily);
+            if (StrUtil.isNotBlank(qualifier)) {
+                get.addColumn(family, HbaseUtils.toBytes(qualifier));
+            } else {
+                get.addFamily(family);
+            }
+        }
+        return action.mapRow(getResult(tableName, get, RowCache.projection(columnFamily, qualifier)), 0);
+    }
+
+    /**
+     * 获取行结果, 表开启行缓存时优先读取缓存, 并发的相同读取共享同一次请求, 表注册行Key分散策略时返回原始行Key
+     *  合并的Key包含该行的失效版本, 该行失效之后发起的读取不会共享失效之前开始的请求, 避免旧结果以新版本写入缓存
+     *
+     * @param tableName  表名
+     * @param get        查询对象
+     * @param projection 投影标识
+     * @return {@link Result}
+     */
+    private Result getResult(String tableName, Get get, String projection) {
+        RowCache rowCache = rowCaches.get(tableName);
+        if (ObjectUtil.isNotNull(rowCache)) {
+            Result cached = rowCache.getIfPresent(get.getRow(), projection);
+            if (ObjectUtil.isNotNull(cached)) {
+                return cached;
+            }
+        }
+        long stamp = ObjectUtil.isNull(rowCache) ? 0L : rowCache.stamp(get.getRow());
+
+        GetBatcher batcher = getBatcher;
+        Supplier<Result> loader = ObjectUtil.isNull(batcher) ? () -> loadResult(tableName, get) : () -> batcher.get(tableName, get);
+        RowKeyDistributor distributor = distributors.get(tableName);
+        if (ObjectUtil.isNotNull(distributor)) {
+            Supplier<Result> load = loader;
+            loader = () -> distributor.getOriginalResult(load.get());
+        }
+        Result result = collapseGets
+                ? getFlights.execute(Arrays.asList(tableName, new Bytes(get.getRow()), projection, stamp), loader)
+                : loader.get();
+        if (ObjectUtil.isNotNull(rowCache)) {
+            rowCache.put(get.getRow(), projection, result, stamp);
+        }
+        return result;
+    }
+
+    private Result loadResult(String tableName, Get get) {
+        return executeTable(tableName, "get", new TableCallback<Result>() {
             @Override
-            public T doInTable(Table table) {
-                Get get = new Get(HbaseUtils.toBytes(rowKey));
-                if (StrUtil.isNotBlank(columnFamily)) {
-                    byte[] family = HbaseUtils.toBytes(columnFamily);
-                    get.addFamily(family);
-                }
+            public Result doInTable(Table table) {
                 try {
-                    Result result = table.get(get);
-                    return rowMapper.mapRow(result, 0);
+                    return table.get(get);
                 } catch (IOException e) {
                     log.error("get", e);
                     throw new HbaseException(e);
@@ -1748,26 +2266,124 @@ public class HbaseTemplate implements HbaseOperations {
     }
 
     @Override
-    public <T> T get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> action) {
-        return execute(tableName, new TableCallback<T>() {
+    public <T> List<T> get(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        if (CollectionUtil.isEmpty(rowKeys)) {
+            return Collections.emptyList();
+        }
+
+        List<Result> results = getResults(tableName, rowKeys, columnFamily);
+        List<T> rows = new ArrayList<>(rowKeys.size());
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            rows.add(ObjectUtil.isNull(result) || result.isEmpty() ? null : rowMapper.mapRow(result, i));
+        }
+        return rows;
+    }
+
+    @Override
+    public <T> Map<String, T> getMap(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        if (CollectionUtil.isEmpty(rowKeys)) {
+            return Collections.emptyMap();
+        }
+
+        List<Result> results = getResults(tableName, rowKeys, columnFamily);
+        Map<String, T> rows = new LinkedHashMap<>(rowKeys.size());
+        int rowNum = 0;
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            if (ObjectUtil.isNull(result) || result.isEmpty() || rows.containsKey(rowKeys.get(i))) continue;
+            T row = rowMapper.mapRow(result, rowNum++);
+            if (ObjectUtil.isNotNull(row)) {
+                rows.put(rowKeys.get(i), row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 批量获取行结果, 表开启行缓存时优先读取缓存
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @return {@link List}<{@link Result}>, 与rowKeys一一对应
+     */
+    private List<Result> getResults(String tableName, List<String> rowKeys, String columnFamily) {
+        RowCache rowCache = rowCaches.get(tableName);
+        String projection = RowCache.projection(columnFamily, null);
+        Map<String, Result> cached = new HashMap<>(rowKeys.size());
+        // 重复的行Key只请求一次
+        Set<String> loadKeys = new LinkedHashSet<>(rowKeys.size());
+        for (String rowKey : rowKeys) {
+            Result result = ObjectUtil.isNull(rowCache) || cached.containsKey(rowKey) ? null
+                    : rowCache.getIfPresent(distributedKey(tableName, HbaseUtils.toBytes(rowKey)), projection);
+            if (ObjectUtil.isNotNull(result)) {
+                cached.put(rowKey, result);
+            } else if (!cached.containsKey(rowKey)) {
+                loadKeys.add(rowKey);
+            }
+        }
+
+        Map<String, Result> loaded = loadResults(tableName, new ArrayList<>(loadKeys), columnFamily, rowCache, projection);
+        List<Result> results = new ArrayList<>(rowKeys.size());
+        for (String rowKey : rowKeys) {
+            results.add(cached.containsKey(rowKey) ? cached.get(rowKey) : loaded.get(rowKey));
+        }
+        return results;
+    }
+
+    /**
+     * 批量加载行结果, 表开启行缓存时将结果写入缓存
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @param rowCache     行缓存, 可为null
+     * @param projection   投影标识
+     * @return {@link Map}<{@link String}, {@link Result}>
+     */
+    private Map<String, Result> loadResults(String tableName, List<String> rowKeys, String columnFamily,
+                                            RowCache rowCache, String projection) {
+        if (CollectionUtil.isEmpty(rowKeys)) {
+            return Collections.emptyMap();
+        }
+
+        return executeTable(tableName, "multiGet", new TableCallback<Map<String, Result>>() {
             @Override
-            public T doInTable(Table table) {
-                Get get = new Get(HbaseUtils.toBytes(rowKey));
-                if (StrUtil.isNotBlank(columnFamily)) {
-                    byte[] family = HbaseUtils.toBytes(columnFamily);
-                    if (StrUtil.isNotBlank(qualifier)) {
-                        get.addColumn(family, HbaseUtils.toBytes(qualifier));
-                    } else {
-                        get.addFamily(family);
+            public Map<String, Result> doInTable(Table table) {
+                Map<String, Result> results = new HashMap<>(rowKeys.size());
+                for (List<String> keys : ListUtil.partition(rowKeys, Math.max(multiGetBatchSize, 1))) {
+                    List<Get> gets = new ArrayList<>(keys.size());
+                    long[] stamps = new long[keys.size()];
+                    for (String rowKey : keys) {
+                        Get get = new Get(distributedKey(tableName, HbaseUtils.toBytes(rowKey)));
+                        if (StrUtil.isNotBlank(columnFamily)) {
+                            get.addFamily(HbaseUtils.toBytes(columnFamily));
+                        }
+                        if (ObjectUtil.isNotNull(rowCache)) {
+                            stamps[gets.size()] = rowCache.stamp(get.getRow());
+                        }
+                        gets.add(get);
+                    }
+                    try {
+                        Result[] batch = table.get(gets);
+                        for (int i = 0; i < batch.length; i++) {
+                            Result result = originalResult(tableName, batch[i]);
+                            results.put(keys.get(i), result);
+                            if (ObjectUtil.isNotNull(rowCache)) {
+                                rowCache.put(gets.get(i).getRow(), projection, result, stamps[i]);
+                            }
+                        }
+                    } catch (IOException e) {
+                        log.error("get", e);
+                        throw new HbaseException(e);
                     }
                 }
-                try {
-                    Result result = table.get(get);
-                    return action.mapRow(result, 0);
-                } catch (IOException e) {
-                    log.error("get", e);
-                    throw new HbaseException(e);
-                }
+                return results;
             }
         });
     }
@@ -1780,12 +2396,14 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(qualifier, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "qualifier"));
         Assert.isTrue(ArrayUtil.isNotEmpty(data), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "data"));
 
-        this.execute(tableName, new TableCallback<Void>() {
+        this.executeTable(tableName, "put", new TableCallback<Void>() {
             @Override
             public Void doInTable(Table table) {
-                Put put = new Put(HbaseUtils.toBytes(rowKey)).addColumn(HbaseUtils.toBytes(familyName), HbaseUtils.toBytes(qualifier), data);
+                Put put = (Put) distributedMutation(tableName, HbaseUtils.newPut(rowKey, familyName, qualifier, data));
                 try {
                     table.put(put);
+                    invalidateRow(tableName, put.getRow());
+                    metrics.recordMutationBytes(tableName, put.heapSize());
                     return null;
                 } catch (IOException e) {
                     log.error("put", e);
@@ -1806,18 +2424,13 @@ public class HbaseTemplate implements HbaseOperations {
         Assert.notBlank(rowKey, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowKey"));
         Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
 
-        execute(tableName, new TableCallback<Void>() {
+        executeTable(tableName, "delete", new TableCallback<Void>() {
             @Override
             public Void doInTable(Table table) {
-                Delete delete = new Delete(HbaseUtils.toBytes(rowKey));
-                byte[] family = HbaseUtils.toBytes(columnFamily);
-                if (StrUtil.isNotBlank(qualifier)) {
-                    delete.addColumn(family, HbaseUtils.toBytes(qualifier));
-                } else {
-                    delete.addFamily(family);
-                }
+                Delete delete = (Delete) distributedMutation(tableName, HbaseUtils.newDelete(rowKey, columnFamily, qualifier));
                 try {
                     table.delete(delete);
+                    invalidateRow(tableName, delete.getRow());
                     return null;
                 } catch (IOException e) {
                     log.error("delete", e);
@@ -1828,27 +2441,223 @@ public class HbaseTemplate implements HbaseOperations {
     }
 
     @Override
-    public void saveOrUpdate(String tableName, final Mutation mutation) {
-        this.execute(tableName, new MutatorCallback<Void>() {
+    public void saveOrUpdate(String tableName, Mutation mutation) {
+        Mutation distributed = distributedMutation(tableName, mutation);
+        this.executeMutator(tableName, "saveOrUpdate", new MutatorCallback<Void>() {
             @Override
             public Void doInMutator(BufferedMutator mutator) throws Throwable {
-                mutator.mutate(mutation);
+                mutator.mutate(distributed);
+                invalidateRows(tableName, Collections.singletonList(distributed));
+                metrics.recordMutationBytes(tableName, mutation.heapSize());
                 return null;
             }
         });
     }
 
     @Override
-    public void saveOrUpdate(String tableName, final List<Mutation> mutations) {
-        this.execute(tableName, new MutatorCallback<Void>() {
+    public void saveOrUpdate(String tableName, List<Mutation> mutations) {
+        List<Mutation> distributed = distributedMutations(tableName, mutations);
+        this.executeMutator(tableName, "saveOrUpdate", new MutatorCallback<Void>() {
             @Override
             public Void doInMutator(BufferedMutator mutator) throws Throwable {
-                mutator.mutate(mutations);
+                mutator.mutate(distributed);
+                invalidateRows(tableName, distributed);
+                metrics.recordMutationBytes(tableName, mutations.stream().mapToLong(Mutation::heapSize).sum());
                 return null;
             }
         });
     }
 
+    @Override
+    public void flush(String tableName) {
+        mutatorPool.flush(tableName);
+    }
+
+    @Override
+    public void flush() {
+        mutatorPool.flush();
+    }
+
+    @Override
+    public <T> void save(T entity) {
+        Assert.notNull(entity, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "entity"));
+        save(Collections.singletonList(entity));
+    }
+
+    @Override
+    public <T> void save(List<T> entities) {
+        if (CollectionUtil.isEmpty(entities)) {
+            return;
+        }
+        HbaseEntity<?> entity = mappingContext.getEntity(entities.get(0).getClass());
+        List<Put> puts = CollectionUtil.newArrayList();
+        for (T value : entities) {
+            mappingContext.getOrGenerateId(entity, value);
+            puts.add((Put) distributedMutation(entity.getTableName(), entity.toPut(value)));
+        }
+
+        this.executeTable(entity.getTableName(), "save", new TableCallback<Void>() {
+            @Override
+            public Void doInTable(Table table) {
+                try {
+                    table.put(puts);
+                    puts.forEach(a -> invalidateRow(entity.getTableName(), a.getRow()));
+                    metrics.recordMutationBytes(entity.getTableName(), puts.stream().mapToLong(Put::heapSize).sum());
+                    return null;
+                } catch (IOException e) {
+                    log.error("save", e);
+                    throw new HbaseException(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> T findById(Class<T> entityClass, Object id) {
+        Assert.notNull(id, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "id"));
+        HbaseEntity<T> entity = mappingContext.getEntity(entityClass);
+        Get get = new Get(distributedKey(entity.getTableName(), HbaseUtils.toRowKey(id)));
+        Result result = getResult(entity.getTableName(), get, RowCache.projection(null, null));
+        return entity.getRowMapper().mapRow(result, 0);
+    }
+
+    /**
+     * 开启表的行缓存
+     *  通过本模板的put, delete, saveOrUpdate, save写入时自动失效对应行;
+     *  saveOrUpdate提交时及mutator刷新完成后各失效一次, 不强制刷新, 缓冲期间读到的与直接读取HBase一致
+     *
+     * @param tableName   表名
+     * @param maximumSize 最大缓存行数
+     * @param timeToLive  存活时间
+     * @return {@link RowCache}
+     */
+    public RowCache enableRowCache(String tableName, int maximumSize, Duration timeToLive) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        return rowCaches.computeIfAbsent(tableName, key -> {
+            RowCache rowCache = new RowCache(key, maximumSize, timeToLive);
+            metrics.bindRowCache(key, rowCache);
+            return rowCache;
+        });
+    }
+
+    /**
+     * 关闭表的行缓存
+     *
+     * @param tableName 表名
+     */
+    public void disableRowCache(String tableName) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        RowCache rowCache = rowCaches.remove(tableName);
+        if (ObjectUtil.isNotNull(rowCache)) {
+            rowCache.invalidateAll();
+        }
+    }
+
+    /**
+     * 获取表的行缓存
+     *
+     * @param tableName 表名
+     * @return {@link RowCache}, 未开启时为null
+     */
+    public RowCache getRowCache(String tableName) {
+        return rowCaches.get(tableName);
+    }
+
+    /**
+     * 注册表的行Key分散策略
+     *  通过本模板的get, put, delete, saveOrUpdate, save, find读写该表时自动转换行Key, 扫描时并行扫描所有分散区间并按原始行Key归并;
+     *  注册后通过{@link #createTable(String, String)}建表时按分散区间预拆分
+     *
+     * @param tableName   表名
+     * @param distributor 分散策略
+     */
+    public void registerDistributor(String tableName, RowKeyDistributor distributor) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(distributor, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "distributor"));
+        distributors.put(tableName, distributor);
+    }
+
+    /**
+     * 获取表的行Key分散策略
+     *
+     * @param tableName 表名
+     * @return {@link RowKeyDistributor}, 未注册时为null
+     */
+    public RowKeyDistributor getDistributor(String tableName) {
+        return distributors.get(tableName);
+    }
+
+    private byte[] distributedKey(String tableName, byte[] row) {
+        RowKeyDistributor distributor = distributors.get(tableName);
+        return ObjectUtil.isNull(distributor) ? row : distributor.getDistributedKey(row);
+    }
+
+    private Mutation distributedMutation(String tableName, Mutation mutation) {
+        Assert.notNull(mutation, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mutation"));
+        RowKeyDistributor distributor = distributors.get(tableName);
+        return ObjectUtil.isNull(distributor) ? mutation : distributor.getDistributedMutation(mutation);
+    }
+
+    private List<Mutation> distributedMutations(String tableName, List<Mutation> mutations) {
+        RowKeyDistributor distributor = distributors.get(tableName);
+        if (ObjectUtil.isNull(distributor) || CollectionUtil.isEmpty(mutations)) {
+            return mutations;
+        }
+        return mutations.stream().map(distributor::getDistributedMutation).collect(Collectors.toList());
+    }
+
+    private Result originalResult(String tableName, Result result) {
+        RowKeyDistributor distributor = distributors.get(tableName);
+        return ObjectUtil.isNull(distributor) ? result : distributor.getOriginalResult(result);
+    }
+
+    /**
+     * 获取扫描器, 表注册行Key分散策略时并行扫描所有分散区间并按原始行Key归并
+     */
+    private ResultScanner getScanner(String tableName, Table table, Scan scan) throws IOException {
+        RowKeyDistributor distributor = distributors.get(tableName);
+        if (ObjectUtil.isNull(distributor)) {
+            return table.getScanner(scan);
+        }
+        return distributedScanner(tableName, distributor, scan, MergeMode.SORTED);
+    }
+
+    private ResultScanner distributedScanner(String tableName, RowKeyDistributor distributor, Scan scan, MergeMode mergeMode) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        return parallelScanner().getScanner(tableName, distributor.getDistributedScans(scan), mergeMode,
+                distributor::getOriginalResult, scan.getLimit());
+    }
+
+    private void invalidateRow(String tableName, byte[] row) {
+        RowCache rowCache = rowCaches.get(tableName);
+        if (ObjectUtil.isNotNull(rowCache)) {
+            rowCache.invalidate(row);
+        }
+    }
+
+    /**
+     * 失效缓冲写入的行, 提交后立即失效, 写入刷新到服务端后再失效一次, 清除缓冲期间加载的旧数据
+     */
+    private void invalidateRows(String tableName, List<? extends Mutation> mutations) {
+        RowCache rowCache = rowCaches.get(tableName);
+        if (ObjectUtil.isNotNull(rowCache)) {
+            List<byte[]> rows = mutations.stream().map(Mutation::getRow).collect(Collectors.toList());
+            rows.forEach(rowCache::invalidate);
+            mutatorPool.afterFlush(tableName, () -> rows.forEach(rowCache::invalidate));
+        }
+    }
+
+    @Override
+    public <T> List<T> findAll(Class<T> entityClass) {
+        return findAll(entityClass, new Scan());
+    }
+
+    @Override
+    public <T> List<T> findAll(Class<T> entityClass, Scan scan) {
+        HbaseEntity<T> entity = mappingContext.getEntity(entityClass);
+        return find(entity.getTableName(), scan, entity.getRowMapper());
+    }
+
     /**
      * 表信息
      *
@@ -1884,5 +2693,14 @@ public class HbaseTemplate implements HbaseOperations {
         return tableInfo;
     }
 
+    /**
+     * 协处理器单列聚合, 对应{@link AggregationEndpoint}的sum, min, max
+     */
+    @FunctionalInterface
+    private interface EndpointAggregation {
+
+        <N> N aggregate(AggregationEndpoint endpoint, Table table, Class<N> type, Scan scan) throws IOException;
+
+    }
 
 }
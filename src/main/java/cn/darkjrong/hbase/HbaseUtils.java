@@ -1,18 +1,22 @@
 package cn.darkjrong.hbase;
 
+import cn.darkjrong.hbase.codec.HbaseCodec;
+import cn.darkjrong.hbase.codec.HbaseCodecRegistry;
 import cn.hutool.core.convert.Convert;
-import cn.hutool.core.util.ByteUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.math.BigDecimal;
 
 /**
  * hbase 工具类
@@ -66,42 +70,37 @@ public class HbaseUtils {
 
     /**
      *将{@link Serializable}转换为 {@link byte[]}
+     *  与{@link #toBytes(Object)}编码一致, 数字为大端序
      * @param serializable {@link Serializable}
      * @return {@link byte[]}
      */
     public static byte[] toBytes(Serializable serializable) {
-        if (serializable instanceof Number) {
-            return ByteUtil.numberToBytes((Number) serializable);
-        } else {
-            return StrUtil.bytes((String) serializable);
-        }
+        return ObjectUtil.isNull(serializable) ? null : toBytes((Object) serializable);
     }
 
     /**
      *将{@link Object}转换为 {@link byte[]}
+     *  按{@link HbaseCodecRegistry}中注册的编解码器编码, 不存在时使用hutool转换
      * @return {@link byte[]}
      */
+    @SuppressWarnings("unchecked")
     public static byte[] toBytes(Object value) {
-        Class<?> tClass = value.getClass();
-        if (tClass.equals(String.class)) {
-            return toBytes((String) value);
-        }else if (tClass.equals(Integer.class)) {
-            return Bytes.toBytes((Integer) value);
-        }else if (tClass.equals(Long.class)) {
-            return Bytes.toBytes((Long) value);
-        }else if (tClass.equals(Double.class)) {
-            return Bytes.toBytes((Double) value);
-        }else if (tClass.equals(Float.class)) {
-            return Bytes.toBytes((Float) value);
-        }else if (tClass.equals(BigDecimal.class)) {
-            return Bytes.toBytes((BigDecimal)value);
-        }else if (tClass.equals(Boolean.class)) {
-            return Bytes.toBytes((Boolean) value);
-        }else if (tClass.equals(Short.class)) {
-            return Bytes.toBytes((Short) value);
-        }else {
-            return Convert.toPrimitiveByteArray(value);
+        HbaseCodec<Object> codec = (HbaseCodec<Object>) HbaseCodecRegistry.getCodec(value.getClass());
+        if (ObjectUtil.isNotNull(codec)) {
+            return codec.encode(value);
         }
+        return Convert.toPrimitiveByteArray(value);
+    }
+
+    /**
+     * 行Key编码, 实体映射, 模板读写及扫描范围共用
+     *  byte[]原样返回, 其余按{@link #toBytes(Object)}编码
+     *
+     * @param rowKey 行Key
+     * @return {@link byte[]}
+     */
+    public static byte[] toRowKey(Object rowKey) {
+        return rowKey instanceof byte[] ? (byte[]) rowKey : toBytes(rowKey);
     }
 
     /**
@@ -115,17 +114,26 @@ public class HbaseUtils {
 
     /**
      * 获取值
+     *  按{@link HbaseCodecRegistry}中注册的编解码器解码, 不存在时使用hutool转换
      *
      * @param tClass t类
      * @param data   数据
      * @return {@link Object}
      */
     public static <T> T getValue(Class<T> tClass, byte[] data) {
+        if (ObjectUtil.isNull(data)) {
+            return null;
+        }
+        HbaseCodec<T> codec = HbaseCodecRegistry.getCodec(tClass);
+        if (ObjectUtil.isNotNull(codec)) {
+            return codec.decode(data, 0, data.length);
+        }
         return Convert.convert(tClass, data);
     }
 
     /**
      * 获取值
+     *  按{@link HbaseCodecRegistry}中注册的编解码器解码, 不存在时按字符串处理
      *
      * @param tClass t类
      * @param data   数据
@@ -134,52 +142,63 @@ public class HbaseUtils {
      * @return {@link Object}
      */
     public static Object getValue(Class<?> tClass, byte[] data, int offset, int length) {
-        if (tClass.equals(String.class)) {
-            return Bytes.toString(data, offset, length);
-        }else if (tClass.equals(int.class) || tClass.equals(Integer.class)) {
-            return Bytes.toInt(data);
-        }else if (tClass.equals(Long.class) || tClass.equals(long.class)) {
-            return Bytes.toLong(data);
-        }else if (tClass.equals(double.class) || tClass.equals(Double.class)) {
-            return Bytes.toDouble(data);
-        }else if (tClass.equals(float.class) || tClass.equals(Float.class)) {
-            return Bytes.toFloat(data);
-        }else if (tClass.equals(BigDecimal.class)) {
-            return Bytes.toBigDecimal(data, offset, length);
-        }else if (tClass.equals(Boolean.class) || tClass.equals(boolean.class)) {
-            return Bytes.toBoolean(data);
-        }else if (tClass.equals(Short.class) || tClass.equals(short.class)) {
-            return Bytes.toShort(data);
-        }else {
-            return Bytes.toString(data, offset, length);
+        HbaseCodec<?> codec = HbaseCodecRegistry.getCodec(tClass);
+        if (ObjectUtil.isNotNull(codec)) {
+            return codec.decode(data, offset, length);
         }
+        return Bytes.toString(data, offset, length);
     }
 
+    /**
+     * 获取单元格值
+     *  直接从{@link Cell#getValueArray()}按偏移量, 长度解码, 不复制值数组
+     *
+     * @param tClass t类
+     * @param cell   单元格
+     * @return {@link T}, 单元格为空返回null
+     */
+    public static <T> T getValue(Class<T> tClass, Cell cell) {
+        if (ObjectUtil.isNull(cell)) {
+            return null;
+        }
+        HbaseCodec<T> codec = HbaseCodecRegistry.getCodec(tClass);
+        if (ObjectUtil.isNotNull(codec)) {
+            return codec.decode(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+        }
+        return Convert.convert(tClass, CellUtil.cloneValue(cell));
+    }
 
+    /**
+     * 创建单列插入对象
+     *
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param data         数据
+     * @return {@link Put}
+     */
+    public static Put newPut(String rowKey, String columnFamily, String qualifier, byte[] data) {
+        return new Put(toBytes(rowKey)).addColumn(toBytes(columnFamily), toBytes(qualifier), data);
+    }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+    /**
+     * 创建删除对象
+     *  字段名为空时删除整个列族
+     *
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @return {@link Delete}
+     */
+    public static Delete newDelete(String rowKey, String columnFamily, String qualifier) {
+        Delete delete = new Delete(toBytes(rowKey));
+        byte[] family = toBytes(columnFamily);
+        if (StrUtil.isNotBlank(qualifier)) {
+            delete.addColumn(family, toBytes(qualifier));
+        } else {
+            delete.addFamily(family);
+        }
+        return delete;
+    }
 
 }
@@ -0,0 +1,283 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import lombok.Getter;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * hbase响应式模板
+ *  基于{@link AsyncHbaseTemplate}, 扫描按下游请求量拉取数据, 下游处理不过来时暂停扫描
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Getter
+public class ReactiveHbaseTemplate {
+
+    private final AsyncHbaseTemplate asyncHbaseTemplate;
+
+    public ReactiveHbaseTemplate(AsyncHbaseTemplate asyncHbaseTemplate) {
+        Assert.notNull(asyncHbaseTemplate, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "asyncHbaseTemplate"));
+        this.asyncHbaseTemplate = asyncHbaseTemplate;
+    }
+
+    /**
+     * 扫描
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @return {@link Flux}<{@link Result}>
+     */
+    public Flux<Result> scan(String tableName, Scan scan) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        return Flux.create(sink -> asyncHbaseTemplate.getTable(tableName).scan(scan, new SinkScanResultConsumer(sink)),
+                FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    /**
+     * 查询多个
+     *
+     * @param tableName 表名
+     * @param scan      查询对象
+     * @param rowMapper 行映射器
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> find(String tableName, Scan scan, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "rowMapper"));
+        return scan(tableName, scan).index().handle((tuple, sink) -> {
+            T row = rowMapper.mapRow(tuple.getT2(), tuple.getT1().intValue());
+            if (row != null) {
+                sink.next(row);
+            }
+        });
+    }
+
+    /**
+     * 查询多个
+     *
+     * @param tableName 表名
+     * @param rowMapper 行映射器
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> find(String tableName, RowMapper<T> rowMapper) {
+        return find(tableName, new Scan(), rowMapper);
+    }
+
+    /**
+     * 查询多个
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> find(String tableName, String columnFamily, RowMapper<T> rowMapper) {
+        Scan scan = new Scan();
+        scan.addFamily(HbaseUtils.toBytes(columnFamily));
+        return find(tableName, scan, rowMapper);
+    }
+
+    /**
+     * 查询多个
+     *
+     * @param tableName    表名
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param rowMapper    行映射器
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> find(String tableName, String columnFamily, String qualifier, RowMapper<T> rowMapper) {
+        Scan scan = new Scan();
+        scan.addColumn(HbaseUtils.toBytes(columnFamily), HbaseUtils.toBytes(qualifier));
+        return find(tableName, scan, rowMapper);
+    }
+
+    /**
+     * 获取行
+     *
+     * @param tableName 表名
+     * @param rowKey    行Key
+     * @param rowMapper 行映射器
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> get(String tableName, String rowKey, RowMapper<T> rowMapper) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.get(tableName, rowKey, rowMapper));
+    }
+
+    /**
+     * 获取行
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> get(String tableName, String rowKey, String columnFamily, RowMapper<T> rowMapper) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.get(tableName, rowKey, columnFamily, rowMapper));
+    }
+
+    /**
+     * 获取行
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param rowMapper    行映射器
+     * @return {@link Mono}<{@link T}>
+     */
+    public <T> Mono<T> get(String tableName, String rowKey, String columnFamily, String qualifier, RowMapper<T> rowMapper) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.get(tableName, rowKey, columnFamily, qualifier, rowMapper));
+    }
+
+    /**
+     * 批量获取行
+     *
+     * @param tableName    表名
+     * @param rowKeys      行Key
+     * @param columnFamily 列族
+     * @param rowMapper    行映射器
+     * @return {@link Flux}<{@link T}>
+     */
+    public <T> Flux<T> get(String tableName, List<String> rowKeys, String columnFamily, RowMapper<T> rowMapper) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.get(tableName, rowKeys, columnFamily, rowMapper))
+                .flatMapIterable(a -> a);
+    }
+
+    /**
+     * 插入单个数据
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @param data         数据
+     * @return {@link Mono}<{@link Void}>
+     */
+    public Mono<Void> put(String tableName, String rowKey, String columnFamily, String qualifier, byte[] data) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.put(tableName, rowKey, columnFamily, qualifier, data));
+    }
+
+    /**
+     * 删除
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @return {@link Mono}<{@link Void}>
+     */
+    public Mono<Void> delete(String tableName, String rowKey, String columnFamily) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.delete(tableName, rowKey, columnFamily));
+    }
+
+    /**
+     * 删除
+     *
+     * @param tableName    表名
+     * @param rowKey       行Key
+     * @param columnFamily 列族
+     * @param qualifier    字段名
+     * @return {@link Mono}<{@link Void}>
+     */
+    public Mono<Void> delete(String tableName, String rowKey, String columnFamily, String qualifier) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.delete(tableName, rowKey, columnFamily, qualifier));
+    }
+
+    /**
+     * 保存或更新
+     *
+     * @param tableName 表名
+     * @param mutation  操作数据
+     * @return {@link Mono}<{@link Void}>
+     */
+    public Mono<Void> saveOrUpdate(String tableName, Mutation mutation) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.saveOrUpdate(tableName, mutation));
+    }
+
+    /**
+     * 保存或更新
+     *
+     * @param tableName 表名
+     * @param mutations 操作数据
+     * @return {@link Mono}<{@link Void}>
+     */
+    public Mono<Void> saveOrUpdate(String tableName, List<Mutation> mutations) {
+        return Mono.fromFuture(() -> asyncHbaseTemplate.saveOrUpdate(tableName, mutations));
+    }
+
+    /**
+     * 将扫描结果推送至{@link FluxSink}
+     *  下游没有请求量时挂起扫描, 下游请求或取消时恢复
+     */
+    private static class SinkScanResultConsumer implements AdvancedScanResultConsumer {
+
+        private final FluxSink<Result> sink;
+        private ScanResumer resumer;
+        private volatile boolean cancelled = Boolean.FALSE;
+
+        SinkScanResultConsumer(FluxSink<Result> sink) {
+            this.sink = sink;
+            sink.onRequest(n -> resume());
+            sink.onCancel(() -> {
+                cancelled = Boolean.TRUE;
+                resume();
+            });
+        }
+
+        @Override
+        public void onNext(Result[] results, ScanController controller) {
+            if (cancelled) {
+                controller.terminate();
+                return;
+            }
+            for (Result result : results) {
+                sink.next(result);
+            }
+            synchronized (this) {
+                if (!cancelled && sink.requestedFromDownstream() <= 0) {
+                    resumer = controller.suspend();
+                }
+            }
+        }
+
+        @Override
+        public void onHeartbeat(ScanController controller) {
+            if (cancelled) {
+                controller.terminate();
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            sink.error(error instanceof HbaseException ? error : new HbaseException(error));
+        }
+
+        @Override
+        public void onComplete() {
+            sink.complete();
+        }
+
+        private void resume() {
+            ScanResumer current;
+            synchronized (this) {
+                current = resumer;
+                resumer = null;
+            }
+            if (current != null) {
+                current.resume();
+            }
+        }
+    }
+
+}
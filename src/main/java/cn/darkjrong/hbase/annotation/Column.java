@@ -0,0 +1,41 @@
+package cn.darkjrong.hbase.annotation;
+
+import cn.darkjrong.hbase.HbaseConstant;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.*;
+
+/**
+ * 列映射, 未标注的属性按属性名映射至表的默认列族
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Column {
+
+    /**
+     * 字段名, 为空时使用属性名
+     */
+    @AliasFor(HbaseConstant.NAME)
+    String value() default "";
+
+    /**
+     * 字段名, 为空时使用属性名
+     */
+    @AliasFor(HbaseConstant.VALUE)
+    String name() default "";
+
+    /**
+     * 列族, 为空时使用{@link HbaseTable#columnFamily()}
+     */
+    String columnFamily() default "";
+
+    /**
+     * 是否忽略该属性
+     */
+    boolean ignore() default false;
+
+}
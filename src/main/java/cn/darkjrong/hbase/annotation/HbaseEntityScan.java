@@ -0,0 +1,40 @@
+package cn.darkjrong.hbase.annotation;
+
+import cn.darkjrong.hbase.HbaseConstant;
+import cn.darkjrong.hbase.mapping.HbaseEntityScanRegistrar;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.*;
+
+/**
+ * 扫描{@link HbaseTable}实体, 启动时生成映射信息
+ *  未配置时扫描Spring Boot自动配置包(启动类所在包)
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Import(HbaseEntityScanRegistrar.class)
+public @interface HbaseEntityScan {
+
+    /**
+     * 扫描包
+     */
+    @AliasFor(HbaseConstant.BASE_PACKAGES)
+    String[] value() default {};
+
+    /**
+     * 扫描包
+     */
+    @AliasFor(HbaseConstant.VALUE)
+    String[] basePackages() default {};
+
+    /**
+     * 扫描类所在的包
+     */
+    Class<?>[] basePackageClasses() default {};
+
+}
@@ -0,0 +1,36 @@
+package cn.darkjrong.hbase.annotation;
+
+import cn.darkjrong.hbase.HbaseConstant;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.*;
+
+/**
+ * hbase表映射
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HbaseTable {
+
+    /**
+     * 表名, 为空时使用类名(下划线格式)
+     */
+    @AliasFor(HbaseConstant.NAME)
+    String value() default "";
+
+    /**
+     * 表名, 为空时使用类名(下划线格式)
+     */
+    @AliasFor(HbaseConstant.VALUE)
+    String name() default "";
+
+    /**
+     * 默认列族
+     */
+    String columnFamily() default HbaseConstant.DEFAULT_COLUMN_FAMILY;
+
+}
@@ -0,0 +1,16 @@
+package cn.darkjrong.hbase.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 行Key, 未标注时使用名为 id 的属性
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RowKey {
+
+}
@@ -0,0 +1,51 @@
+package cn.darkjrong.hbase.bulkload;
+
+/**
+ * 批量导入进度监听
+ *  回调在调用{@link BulkLoader#load}的线程中执行
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public interface BulkLoadListener {
+
+    /**
+     * 不监听
+     */
+    BulkLoadListener NOOP = new BulkLoadListener() {};
+
+    /**
+     * 一批数据写入HFile完成
+     *
+     * @param tableName 表名
+     * @param rows      累计行数
+     * @param cells     累计单元格数
+     * @param hfiles    累计HFile数
+     */
+    default void onProgress(String tableName, long rows, long cells, int hfiles) {}
+
+    /**
+     * 开始导入HFile
+     *
+     * @param tableName 表名
+     * @param attempt   第几次尝试, 从1开始
+     */
+    default void onLoadAttempt(String tableName, int attempt) {}
+
+    /**
+     * 导入HFile失败
+     *
+     * @param tableName 表名
+     * @param attempt   第几次尝试, 从1开始
+     * @param throwable 异常
+     */
+    default void onLoadFailed(String tableName, int attempt, Throwable throwable) {}
+
+    /**
+     * 导入完成
+     *
+     * @param result 导入结果
+     */
+    default void onCompleted(BulkLoadResult result) {}
+
+}
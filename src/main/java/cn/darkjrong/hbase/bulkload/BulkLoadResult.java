@@ -0,0 +1,48 @@
+package cn.darkjrong.hbase.bulkload;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 批量导入结果
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Data
+public class BulkLoadResult implements Serializable {
+
+    private static final long serialVersionUID = 4218652630731542707L;
+
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 行数
+     */
+    private long rows;
+
+    /**
+     * 单元格数
+     */
+    private long cells;
+
+    /**
+     * 写入的HFile数
+     */
+    private int hfiles;
+
+    /**
+     * 导入尝试次数
+     */
+    private int attempts;
+
+    /**
+     * 耗时(毫秒)
+     */
+    private long durationMs;
+
+}
@@ -0,0 +1,368 @@
+package cn.darkjrong.hbase.bulkload;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.io.hfile.CacheConfig;
+import org.apache.hadoop.hbase.io.hfile.HFileContext;
+import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
+import org.apache.hadoop.hbase.regionserver.HStoreFile;
+import org.apache.hadoop.hbase.regionserver.StoreFileWriter;
+import org.apache.hadoop.hbase.tool.BulkLoadHFiles;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * HFile批量导入
+ *  数据按内存块排序后按region边界切分, 每个region每个列族写一个HFile到暂存目录, 全部写完后通过{@link BulkLoadHFiles}导入,
+ *  不经过WAL与memstore. 导入期间region发生拆分时由导入工具自动拆分HFile, 导入失败时按重试次数重新导入暂存目录中剩余的文件.
+ *  需要引入hbase-server
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+@Getter
+public class BulkLoader {
+
+    /**
+     * 默认内存块大小, 256M
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * 默认导入重试次数
+     */
+    public static final int DEFAULT_RETRIES = 3;
+
+    /**
+     * 默认暂存目录, 相对于用户目录
+     */
+    public static final String DEFAULT_STAGING_DIR = "hbase-bulkload";
+
+    private static final byte[] BULKLOAD_TASK = Bytes.toBytes(BulkLoader.class.getSimpleName());
+
+    private final Connection connection;
+    private final String stagingDir;
+    private final long chunkSize;
+    private final int retries;
+
+    public BulkLoader(Connection connection) {
+        this(connection, null, DEFAULT_CHUNK_SIZE, DEFAULT_RETRIES);
+    }
+
+    /**
+     * @param connection 连接
+     * @param stagingDir 暂存目录, 应与hbase.rootdir位于同一文件系统, 为空时使用用户目录下的{@link #DEFAULT_STAGING_DIR}
+     * @param chunkSize  内存块大小(字节), 每块数据排序后写出
+     * @param retries    导入重试次数
+     */
+    public BulkLoader(Connection connection, String stagingDir, long chunkSize, int retries) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.isTrue(chunkSize > 0, "The given 'chunkSize' must be greater than 0");
+        Assert.isTrue(retries >= 0, "The given 'retries' must not be negative");
+        this.connection = connection;
+        this.stagingDir = stagingDir;
+        this.chunkSize = chunkSize;
+        this.retries = retries;
+    }
+
+    /**
+     * 批量导入
+     *
+     * @param tableName 表名
+     * @param puts      数据, 无需有序
+     * @return {@link BulkLoadResult}
+     * @throws HbaseException hbase异常
+     */
+    public BulkLoadResult load(String tableName, Stream<Put> puts) throws HbaseException {
+        return load(tableName, puts, BulkLoadListener.NOOP);
+    }
+
+    /**
+     * 批量导入
+     *
+     * @param tableName 表名
+     * @param puts      数据, 无需有序
+     * @param listener  进度监听
+     * @return {@link BulkLoadResult}
+     * @throws HbaseException hbase异常
+     */
+    public BulkLoadResult load(String tableName, Stream<Put> puts, BulkLoadListener listener) throws HbaseException {
+        Assert.notNull(puts, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "puts"));
+        try (Stream<Put> stream = puts) {
+            return load(tableName, stream.iterator(), listener);
+        }
+    }
+
+    /**
+     * 批量导入
+     *
+     * @param tableName 表名
+     * @param puts      数据, 无需有序
+     * @param listener  进度监听
+     * @return {@link BulkLoadResult}
+     * @throws HbaseException hbase异常
+     */
+    public BulkLoadResult load(String tableName, Iterator<Put> puts, BulkLoadListener listener) throws HbaseException {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(puts, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "puts"));
+        Assert.notNull(listener, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "listener"));
+
+        long start = System.currentTimeMillis();
+        TableName table = TableName.valueOf(tableName);
+        Configuration configuration = connection.getConfiguration();
+        Path dir = null;
+        boolean success = Boolean.FALSE;
+        try {
+            TableDescriptor descriptor;
+            byte[][] startKeys;
+            try (Admin admin = connection.getAdmin(); RegionLocator locator = connection.getRegionLocator(table)) {
+                descriptor = admin.getDescriptor(table);
+                startKeys = locator.getStartKeys();
+            }
+
+            dir = stagingPath(configuration, table);
+            Staging staging = new Staging(tableName, descriptor, startKeys, dir.getFileSystem(configuration), dir, listener);
+            staging.write(puts);
+
+            BulkLoadResult result = new BulkLoadResult();
+            result.setTableName(tableName);
+            result.setRows(staging.rows);
+            result.setCells(staging.cells);
+            result.setHfiles(staging.hfiles);
+            if (staging.hfiles > 0) {
+                result.setAttempts(bulkLoad(configuration, table, dir, listener));
+            }
+            result.setDurationMs(System.currentTimeMillis() - start);
+            success = Boolean.TRUE;
+            listener.onCompleted(result);
+            return result;
+        } catch (IOException e) {
+            log.error("bulkLoad", e);
+            throw new HbaseException(e);
+        } finally {
+            cleanup(configuration, dir, success);
+        }
+    }
+
+    private Path stagingPath(Configuration configuration, TableName table) throws IOException {
+        Path root = StrUtil.isBlank(stagingDir)
+                ? new Path(FileSystem.get(configuration).getHomeDirectory(), DEFAULT_STAGING_DIR) : new Path(stagingDir);
+        return new Path(root, table.getNameWithNamespaceInclAsString().replace(TableName.NAMESPACE_DELIM, '_')
+                + StrUtil.DASHED + IdUtil.fastSimpleUUID());
+    }
+
+    /**
+     * 导入暂存目录中的HFile, 已导入的文件由导入工具移出暂存目录, 重试时只导入剩余文件
+     *
+     * @return 尝试次数
+     */
+    private int bulkLoad(Configuration configuration, TableName table, Path dir, BulkLoadListener listener) throws IOException {
+        BulkLoadHFiles bulkLoadHFiles = BulkLoadHFiles.create(configuration);
+        String tableName = table.getNameAsString();
+        for (int attempt = 1; ; attempt++) {
+            listener.onLoadAttempt(tableName, attempt);
+            try {
+                bulkLoadHFiles.bulkLoad(table, dir);
+                return attempt;
+            } catch (IOException e) {
+                listener.onLoadFailed(tableName, attempt, e);
+                if (attempt > retries) {
+                    throw e;
+                }
+                log.warn("bulkLoad {} failed, attempt {}, retrying", tableName, attempt, e);
+                ThreadUtil.sleep(1000L * attempt);
+            }
+        }
+    }
+
+    private static void cleanup(Configuration configuration, Path dir, boolean success) {
+        if (ObjectUtil.isNull(dir)) {
+            return;
+        }
+        if (!success) {
+            log.warn("bulkLoad failed, staged hfiles are kept in {}", dir);
+            return;
+        }
+        try {
+            dir.getFileSystem(configuration).delete(dir, Boolean.TRUE);
+        } catch (IOException e) {
+            log.warn("bulkLoad cleanup {} failed", dir, e);
+        }
+    }
+
+    /**
+     * 暂存目录写入
+     *  目录结构为 暂存目录/列族/HFile, 与{@link BulkLoadHFiles}要求一致
+     */
+    private class Staging {
+
+        private final String tableName;
+        private final TableDescriptor descriptor;
+        private final byte[][] startKeys;
+        private final FileSystem fileSystem;
+        private final Path dir;
+        private final BulkLoadListener listener;
+        private final long now = System.currentTimeMillis();
+
+        private long rows;
+        private long cells;
+        private int hfiles;
+
+        Staging(String tableName, TableDescriptor descriptor, byte[][] startKeys, FileSystem fileSystem, Path dir,
+                BulkLoadListener listener) {
+            this.tableName = tableName;
+            this.descriptor = descriptor;
+            this.startKeys = startKeys;
+            this.fileSystem = fileSystem;
+            this.dir = dir;
+            this.listener = listener;
+        }
+
+        void write(Iterator<Put> puts) throws IOException {
+            List<Cell> chunk = new ArrayList<>();
+            long chunkBytes = 0L;
+            while (puts.hasNext()) {
+                Put put = puts.next();
+                for (Map.Entry<byte[], List<Cell>> entry : put.getFamilyCellMap().entrySet()) {
+                    if (!descriptor.hasColumnFamily(entry.getKey())) {
+                        throw new HbaseException("Column family {} does not exist in table {}", Bytes.toString(entry.getKey()), tableName);
+                    }
+                    for (Cell cell : entry.getValue()) {
+                        chunk.add(stamped(cell));
+                    }
+                }
+                rows++;
+                chunkBytes += put.heapSize();
+                if (chunkBytes >= chunkSize) {
+                    flush(chunk);
+                    chunkBytes = 0L;
+                }
+            }
+            flush(chunk);
+        }
+
+        /**
+         * 未指定时间戳的单元格复制后使用导入时间, 不修改调用方的{@link Put}
+         */
+        private Cell stamped(Cell cell) {
+            if (cell.getTimestamp() != HConstants.LATEST_TIMESTAMP) {
+                return cell;
+            }
+            KeyValue copy = KeyValueUtil.copyToNewKeyValue(cell);
+            copy.setTimestamp(now);
+            return copy;
+        }
+
+        /**
+         * 排序后按region, 列族写出HFile
+         */
+        private void flush(List<Cell> chunk) throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.sort(CellComparator.getInstance());
+
+            Map<byte[], StoreFileWriter> writers = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+            int region = -1;
+            byte[] family = null;
+            StoreFileWriter writer = null;
+            try {
+                for (Cell cell : chunk) {
+                    int current = regionIndex(cell);
+                    if (current != region) {
+                        close(writers);
+                        region = current;
+                        writer = null;
+                    }
+                    if (ObjectUtil.isNull(writer) || !CellUtil.matchingFamily(cell, family)) {
+                        family = CellUtil.cloneFamily(cell);
+                        writer = writers.computeIfAbsent(family, this::newWriter);
+                    }
+                    writer.append(cell);
+                }
+            } finally {
+                close(writers);
+            }
+            cells += chunk.size();
+            chunk.clear();
+            listener.onProgress(tableName, rows, cells, hfiles);
+        }
+
+        /**
+         * 行所在region下标, region开始键有序, 首个region开始键为空
+         */
+        private int regionIndex(Cell cell) {
+            int low = 0;
+            int high = startKeys.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                byte[] startKey = startKeys[mid];
+                if (Bytes.compareTo(startKey, 0, startKey.length, cell.getRowArray(), cell.getRowOffset(), cell.getRowLength()) <= 0) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        private StoreFileWriter newWriter(byte[] family) {
+            ColumnFamilyDescriptor columnFamily = descriptor.getColumnFamily(family);
+            HFileContext context = new HFileContextBuilder()
+                    .withCompression(columnFamily.getCompressionType())
+                    .withDataBlockEncoding(columnFamily.getDataBlockEncoding())
+                    .withBlockSize(columnFamily.getBlocksize())
+                    .withIncludesTags(Boolean.TRUE)
+                    .withColumnFamily(family)
+                    .withTableName(descriptor.getTableName().getName())
+                    .withCreateTime(now)
+                    .build();
+            try {
+                return new StoreFileWriter.Builder(fileSystem.getConf(), CacheConfig.DISABLED, fileSystem)
+                        .withOutputDir(new Path(dir, Bytes.toString(family)))
+                        .withBloomType(columnFamily.getBloomFilterType())
+                        .withFileContext(context)
+                        .build();
+            } catch (IOException e) {
+                log.error("newWriter", e);
+                throw new HbaseException(e);
+            }
+        }
+
+        private void close(Map<byte[], StoreFileWriter> writers) throws IOException {
+            for (StoreFileWriter writer : writers.values()) {
+                writer.appendFileInfo(HStoreFile.BULKLOAD_TIME_KEY, Bytes.toBytes(now));
+                writer.appendFileInfo(HStoreFile.BULKLOAD_TASK_KEY, BULKLOAD_TASK);
+                writer.appendFileInfo(HStoreFile.MAJOR_COMPACTION_KEY, Bytes.toBytes(Boolean.TRUE));
+                writer.appendFileInfo(HStoreFile.EXCLUDE_FROM_MINOR_COMPACTION_KEY, Bytes.toBytes(Boolean.FALSE));
+                writer.appendTrackedTimestampsToMetadata();
+                writer.close();
+                hfiles++;
+            }
+            writers.clear();
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package cn.darkjrong.hbase.callback;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 流水线结果提取器
+ *  调用线程只负责从扫描器读取, 行映射提交到线程池执行; 最多预读depth行等待映射, 按读取顺序输出
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class PipelinedResultsExtractor<T> implements ResultsExtractor<List<T>> {
+
+    private final RowMapper<T> rowMapper;
+    private final Executor executor;
+    private final int depth;
+
+    /**
+     * @param rowMapper 行映射器
+     * @param executor  执行行映射的线程池
+     * @param depth     预读深度, 已读取未输出的最大行数
+     */
+    public PipelinedResultsExtractor(RowMapper<T> rowMapper, Executor executor, int depth) {
+        Assert.notNull(rowMapper, "RowMapper is required");
+        Assert.notNull(executor, "Executor is required");
+        Assert.isTrue(depth > 0, "The given 'depth' must be greater than 0");
+        this.rowMapper = rowMapper;
+        this.executor = executor;
+        this.depth = depth;
+    }
+
+    @Override
+    public List<T> extractData(ResultScanner scanner) throws HbaseException {
+        List<T> rs = CollectionUtil.newArrayList();
+        Deque<CompletableFuture<T>> window = new ArrayDeque<>(depth);
+        int rowNum = 0;
+        try {
+            for (Result result : scanner) {
+                int current = rowNum++;
+                window.add(CompletableFuture.supplyAsync(() -> rowMapper.mapRow(result, current), executor));
+                if (window.size() >= depth) {
+                    collect(window.poll(), rs);
+                }
+            }
+            while (!window.isEmpty()) {
+                collect(window.poll(), rs);
+            }
+        } finally {
+            window.forEach(a -> a.cancel(Boolean.FALSE));
+        }
+        return rs;
+    }
+
+    private void collect(CompletableFuture<T> future, List<T> rs) {
+        try {
+            Optional.ofNullable(future.join()).ifPresent(rs::add);
+        } catch (CompletionException e) {
+            Throwable cause = ObjectUtil.isNull(e.getCause()) ? e : e.getCause();
+            throw cause instanceof HbaseException ? (HbaseException) cause : new HbaseException(cause);
+        }
+    }
+
+}
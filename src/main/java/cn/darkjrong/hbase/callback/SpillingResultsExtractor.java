@@ -0,0 +1,107 @@
+package cn.darkjrong.hbase.callback;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.support.RowSerializer;
+import cn.darkjrong.hbase.support.SpillFile;
+import cn.darkjrong.hbase.support.SpilledResults;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 溢出结果提取器
+ *  堆内行数据超过预算后, 将已映射的行(指定排序时先排序)序列化写入内存映射的临时文件并清空堆内缓冲;
+ *  返回的{@link SpilledResults}可顺序重复遍历, 指定排序时对各溢出文件多路归并, 实现外部排序.
+ *  堆内大小按行单元格大小估算
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class SpillingResultsExtractor<T> implements ResultsExtractor<SpilledResults<T>> {
+
+    /**
+     * 默认堆内预算, 64M
+     */
+    public static final long DEFAULT_HEAP_BUDGET = 64L * 1024 * 1024;
+
+    private final RowMapper<T> rowMapper;
+    private final RowSerializer<T> serializer;
+    private final Comparator<? super T> comparator;
+    private final long heapBudget;
+    private final File directory;
+
+    public SpillingResultsExtractor(RowMapper<T> rowMapper, RowSerializer<T> serializer) {
+        this(rowMapper, serializer, null, DEFAULT_HEAP_BUDGET, null);
+    }
+
+    /**
+     * @param rowMapper  行映射器
+     * @param serializer 行序列化器
+     * @param comparator 排序, 为null时保持扫描顺序
+     * @param heapBudget 堆内预算(字节)
+     * @param directory  溢出文件目录, 为null时使用系统临时目录
+     */
+    public SpillingResultsExtractor(RowMapper<T> rowMapper, RowSerializer<T> serializer, Comparator<? super T> comparator,
+                                    long heapBudget, File directory) {
+        Assert.notNull(rowMapper, "RowMapper is required");
+        Assert.notNull(serializer, "RowSerializer is required");
+        Assert.isTrue(heapBudget > 0, "The given 'heapBudget' must be greater than 0");
+        this.rowMapper = rowMapper;
+        this.serializer = serializer;
+        this.comparator = comparator;
+        this.heapBudget = heapBudget;
+        this.directory = ObjectUtil.isNull(directory) ? FileUtil.getTmpDir() : directory;
+    }
+
+    @Override
+    public SpilledResults<T> extractData(ResultScanner scanner) throws HbaseException {
+        List<T> buffer = CollectionUtil.newArrayList();
+        List<SpillFile> runs = CollectionUtil.newArrayList();
+        long buffered = 0;
+        int rowNum = 0;
+        try {
+            for (Result result : scanner) {
+                T row = rowMapper.mapRow(result, rowNum++);
+                if (ObjectUtil.isNull(row)) {
+                    continue;
+                }
+                buffer.add(row);
+                buffered += Result.getTotalSizeOfCells(result);
+                if (buffered >= heapBudget) {
+                    runs.add(spill(buffer));
+                    buffer = CollectionUtil.newArrayList();
+                    buffered = 0;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            runs.forEach(SpillFile::close);
+            log.error("extractData", e);
+            throw e instanceof HbaseException ? (HbaseException) e : new HbaseException(e);
+        }
+        if (ObjectUtil.isNotNull(comparator)) {
+            buffer.sort(comparator);
+        }
+        if (!runs.isEmpty()) {
+            log.debug("scan results spilled to {} files", runs.size());
+        }
+        return new SpilledResults<>(buffer, runs, serializer, comparator);
+    }
+
+    private SpillFile spill(List<T> buffer) throws IOException {
+        if (ObjectUtil.isNotNull(comparator)) {
+            buffer.sort(comparator);
+        }
+        return SpillFile.write(directory, buffer, serializer);
+    }
+
+}
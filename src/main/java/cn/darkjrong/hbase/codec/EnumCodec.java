@@ -0,0 +1,34 @@
+package cn.darkjrong.hbase.codec;
+
+import org.apache.hadoop.hbase.util.Bytes;
+
+/**
+ * 枚举编解码器, 按枚举名称存储
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class EnumCodec<E extends Enum<E>> implements HbaseCodec<E> {
+
+    private final Class<E> type;
+
+    public EnumCodec(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Class<E> getType() {
+        return type;
+    }
+
+    @Override
+    public byte[] encode(E value) {
+        return Bytes.toBytes(value.name());
+    }
+
+    @Override
+    public E decode(byte[] data, int offset, int length) {
+        return Enum.valueOf(type, Bytes.toString(data, offset, length));
+    }
+
+}
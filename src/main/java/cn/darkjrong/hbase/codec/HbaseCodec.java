@@ -0,0 +1,47 @@
+package cn.darkjrong.hbase.codec;
+
+/**
+ * hbase 值编解码器
+ *  实现后通过{@link HbaseCodecRegistry#register(HbaseCodec)}注册, 或声明为Spring Bean自动注册
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public interface HbaseCodec<T> {
+
+    /**
+     * 获取编解码的类型
+     *
+     * @return {@link Class}<{@link T}>
+     */
+    Class<T> getType();
+
+    /**
+     * 编码
+     *
+     * @param value 值
+     * @return {@link byte[]}
+     */
+    byte[] encode(T value);
+
+    /**
+     * 解码
+     *
+     * @param data   数据
+     * @param offset 偏移量
+     * @param length 长度
+     * @return {@link T}
+     */
+    T decode(byte[] data, int offset, int length);
+
+    /**
+     * 解码
+     *
+     * @param data 数据
+     * @return {@link T}
+     */
+    default T decode(byte[] data) {
+        return decode(data, 0, data.length);
+    }
+
+}
@@ -0,0 +1,130 @@
+package cn.darkjrong.hbase.codec;
+
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.lang.Assert;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 编解码器注册中心
+ *  按类型查找编解码器, 查找结果缓存在{@link ClassValue}中, 重复查找为常量时间.
+ *  基本类型与包装类型共用编解码器, 未注册的枚举按名称编码
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class HbaseCodecRegistry {
+
+    private static final ConcurrentMap<Class<?>, HbaseCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<HbaseCodec<?>> LOOKUP = new ClassValue<HbaseCodec<?>>() {
+        @Override
+        protected HbaseCodec<?> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    static {
+        register(codec(String.class, Bytes::toBytes, Bytes::toString));
+        register(codec(Integer.class, Bytes::toBytes, Bytes::toInt));
+        register(codec(Long.class, Bytes::toBytes, Bytes::toLong));
+        register(codec(Double.class, Bytes::toBytes, (data, offset, length) -> Bytes.toDouble(data, offset)));
+        register(codec(Float.class, Bytes::toBytes, (data, offset, length) -> Bytes.toFloat(data, offset)));
+        register(codec(Short.class, Bytes::toBytes, Bytes::toShort));
+        register(codec(Boolean.class, Bytes::toBytes, (data, offset, length) -> data[offset] != 0));
+        register(codec(Byte.class, a -> new byte[]{a}, (data, offset, length) -> data[offset]));
+        register(codec(Character.class, a -> Bytes.toBytes((short) a.charValue()), (data, offset, length) -> (char) Bytes.toShort(data, offset, length)));
+        register(codec(BigDecimal.class, Bytes::toBytes, Bytes::toBigDecimal));
+        register(codec(byte[].class, a -> a, (data, offset, length) -> Arrays.copyOfRange(data, offset, offset + length)));
+        register(codec(UUID.class,
+                a -> Bytes.add(Bytes.toBytes(a.getMostSignificantBits()), Bytes.toBytes(a.getLeastSignificantBits())),
+                (data, offset, length) -> new UUID(Bytes.toLong(data, offset), Bytes.toLong(data, offset + Bytes.SIZEOF_LONG))));
+        register(codec(Instant.class,
+                a -> Bytes.add(Bytes.toBytes(a.getEpochSecond()), Bytes.toBytes(a.getNano())),
+                (data, offset, length) -> Instant.ofEpochSecond(Bytes.toLong(data, offset), Bytes.toInt(data, offset + Bytes.SIZEOF_LONG))));
+    }
+
+    /**
+     * 注册编解码器, 已存在时覆盖
+     *
+     * @param codec 编解码器
+     */
+    public static void register(HbaseCodec<?> codec) {
+        Assert.notNull(codec, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "codec"));
+        Class<?> type = codec.getType();
+        Assert.notNull(type, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "codec.type"));
+        CODECS.put(type, codec);
+        LOOKUP.remove(type);
+        Class<?> primitive = BasicType.unWrap(type);
+        if (primitive != type) {
+            LOOKUP.remove(primitive);
+        }
+    }
+
+    /**
+     * 获取编解码器
+     *
+     * @param type 类型
+     * @return {@link HbaseCodec}<{@link T}>, 不存在返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> HbaseCodec<T> getCodec(Class<T> type) {
+        return type == null ? null : (HbaseCodec<T>) LOOKUP.get(type);
+    }
+
+    /**
+     * 是否存在编解码器
+     *
+     * @param type 类型
+     * @return boolean
+     */
+    public static boolean contains(Class<?> type) {
+        return getCodec(type) != null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static HbaseCodec<?> resolve(Class<?> type) {
+        HbaseCodec<?> codec = CODECS.get(BasicType.wrap(type));
+        if (codec == null && Enum.class.isAssignableFrom(type) && type != Enum.class) {
+            // 带方法体的枚举常量为匿名子类
+            Class enumType = type.isEnum() ? type : type.getSuperclass();
+            codec = new EnumCodec(enumType);
+        }
+        return codec;
+    }
+
+    private static <T> HbaseCodec<T> codec(Class<T> type, Function<T, byte[]> encoder, Decoder<T> decoder) {
+        return new HbaseCodec<T>() {
+            @Override
+            public Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public byte[] encode(T value) {
+                return encoder.apply(value);
+            }
+
+            @Override
+            public T decode(byte[] data, int offset, int length) {
+                return decoder.decode(data, offset, length);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+
+        T decode(byte[] data, int offset, int length);
+
+    }
+
+}
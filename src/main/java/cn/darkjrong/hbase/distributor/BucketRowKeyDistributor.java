@@ -0,0 +1,177 @@
+package cn.darkjrong.hbase.distributor;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import lombok.Getter;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.PrivateCellUtil;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 分桶行Key分散策略
+ *  分散行Key = 1字节桶号 + 原始行Key, 桶号由{@link #bucket(byte[])}计算, 同一原始行Key始终落在同一个桶
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Getter
+public abstract class BucketRowKeyDistributor implements RowKeyDistributor {
+
+    /**
+     * 最大桶数, 桶号占1字节
+     */
+    public static final int MAX_BUCKETS = 256;
+
+    private final int buckets;
+
+    /**
+     * @param buckets 桶数, 1 ~ 256
+     */
+    protected BucketRowKeyDistributor(int buckets) {
+        Assert.isTrue(buckets > 0 && buckets <= MAX_BUCKETS, "The given 'buckets' must be between 1 and {}", MAX_BUCKETS);
+        this.buckets = buckets;
+    }
+
+    /**
+     * 计算原始行Key所在的桶
+     *
+     * @param originalKey 原始行Key
+     * @return 桶号, 0 ~ buckets-1
+     */
+    protected abstract int bucket(byte[] originalKey);
+
+    @Override
+    public byte[] getDistributedKey(byte[] originalKey) {
+        Assert.notNull(originalKey, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "originalKey"));
+        byte[] distributedKey = new byte[originalKey.length + 1];
+        distributedKey[0] = (byte) bucket(originalKey);
+        System.arraycopy(originalKey, 0, distributedKey, 1, originalKey.length);
+        return distributedKey;
+    }
+
+    @Override
+    public byte[] getOriginalKey(byte[] distributedKey) {
+        Assert.isTrue(ArrayUtil.isNotEmpty(distributedKey), HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "distributedKey"));
+        return Arrays.copyOfRange(distributedKey, 1, distributedKey.length);
+    }
+
+    @Override
+    public List<Scan> getDistributedScans(Scan scan) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.isFalse(scan.isReversed(), "Reversed scan is not supported by row key distributor");
+
+        byte[] startRow = scan.getStartRow();
+        byte[] stopRow = scan.getStopRow();
+        List<Scan> scans = CollectionUtil.newArrayList();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            byte[] prefix = {(byte) bucket};
+            try {
+                Scan distributed = new Scan(scan).withStartRow(Bytes.add(prefix, startRow), startRow.length == 0 || scan.includeStartRow());
+                if (stopRow.length == 0) {
+                    distributed.withStopRow(bucket + 1 < MAX_BUCKETS ? new byte[]{(byte) (bucket + 1)} : HConstants.EMPTY_END_ROW, Boolean.FALSE);
+                } else {
+                    distributed.withStopRow(Bytes.add(prefix, stopRow), scan.includeStopRow());
+                }
+                scans.add(distributed);
+            } catch (IOException e) {
+                throw new HbaseException(e);
+            }
+        }
+        return scans;
+    }
+
+    @Override
+    public byte[][] getSplitKeys() {
+        byte[][] splitKeys = new byte[buckets - 1][];
+        for (int bucket = 1; bucket < buckets; bucket++) {
+            splitKeys[bucket - 1] = new byte[]{(byte) bucket};
+        }
+        return splitKeys;
+    }
+
+    @Override
+    public Mutation getDistributedMutation(Mutation mutation) {
+        Assert.notNull(mutation, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mutation"));
+        byte[] row = getDistributedKey(mutation.getRow());
+        try {
+            Mutation distributed;
+            if (mutation instanceof Put) {
+                Put put = new Put(row, mutation.getTimestamp());
+                for (Cell cell : cells(mutation)) {
+                    put.add(copy(cell, row));
+                }
+                distributed = put;
+            } else if (mutation instanceof Delete) {
+                Delete delete = new Delete(row, mutation.getTimestamp());
+                for (Cell cell : cells(mutation)) {
+                    delete.add(copy(cell, row));
+                }
+                distributed = delete;
+            } else if (mutation instanceof Increment) {
+                Increment increment = new Increment(row);
+                increment.setTimeRange(((Increment) mutation).getTimeRange().getMin(), ((Increment) mutation).getTimeRange().getMax());
+                for (Cell cell : cells(mutation)) {
+                    increment.add(copy(cell, row));
+                }
+                distributed = increment;
+            } else if (mutation instanceof Append) {
+                Append append = new Append(row);
+                append.setTimeRange(((Append) mutation).getTimeRange().getMin(), ((Append) mutation).getTimeRange().getMax());
+                for (Cell cell : cells(mutation)) {
+                    append.add(copy(cell, row));
+                }
+                distributed = append;
+            } else {
+                throw new IllegalArgumentException("Unsupported mutation type " + mutation.getClass().getName());
+            }
+            distributed.setDurability(mutation.getDurability());
+            mutation.getAttributesMap().forEach(distributed::setAttribute);
+            return distributed;
+        } catch (IOException e) {
+            throw new HbaseException(e);
+        }
+    }
+
+    @Override
+    public Result getOriginalResult(Result result) {
+        if (result == null || result.isEmpty()) {
+            return result;
+        }
+        byte[] row = getOriginalKey(result.getRow());
+        Cell[] cells = result.rawCells();
+        Cell[] original = new Cell[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            original[i] = copy(cells[i], row);
+        }
+        return Result.create(original, result.getExists(), result.isStale(), result.mayHaveMoreCellsInRow());
+    }
+
+    private static List<Cell> cells(Mutation mutation) {
+        List<Cell> cells = CollectionUtil.newArrayList();
+        mutation.getFamilyCellMap().values().forEach(cells::addAll);
+        return cells;
+    }
+
+    /**
+     * 复制单元格并替换行Key
+     */
+    private static Cell copy(Cell cell, byte[] row) {
+        return new KeyValue(row, 0, row.length,
+                cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength(),
+                cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength(),
+                cell.getTimestamp(), KeyValue.Type.codeToType(cell.getType().getCode()),
+                cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(),
+                PrivateCellUtil.getTags(cell));
+    }
+
+}
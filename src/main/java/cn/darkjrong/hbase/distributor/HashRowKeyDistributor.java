@@ -0,0 +1,23 @@
+package cn.darkjrong.hbase.distributor;
+
+import cn.hutool.core.lang.hash.MurmurHash;
+
+/**
+ * 哈希分桶
+ *  桶号 = 原始行Key的MurmurHash3 % 桶数, 适用于任意行Key
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class HashRowKeyDistributor extends BucketRowKeyDistributor {
+
+    public HashRowKeyDistributor(int buckets) {
+        super(buckets);
+    }
+
+    @Override
+    protected int bucket(byte[] originalKey) {
+        return (MurmurHash.hash32(originalKey) & Integer.MAX_VALUE) % getBuckets();
+    }
+
+}
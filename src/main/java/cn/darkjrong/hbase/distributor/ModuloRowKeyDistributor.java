@@ -0,0 +1,25 @@
+package cn.darkjrong.hbase.distributor;
+
+/**
+ * 取模分桶
+ *  桶号 = 原始行Key末尾最多8字节(无符号大端整数) % 桶数, 适用于以递增序号或时间戳结尾的行Key, 连续写入轮流落在各个桶
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class ModuloRowKeyDistributor extends BucketRowKeyDistributor {
+
+    public ModuloRowKeyDistributor(int buckets) {
+        super(buckets);
+    }
+
+    @Override
+    protected int bucket(byte[] originalKey) {
+        long value = 0L;
+        for (int i = Math.max(0, originalKey.length - Long.BYTES); i < originalKey.length; i++) {
+            value = (value << Byte.SIZE) | (originalKey[i] & 0xFF);
+        }
+        return (int) Long.remainderUnsigned(value, getBuckets());
+    }
+
+}
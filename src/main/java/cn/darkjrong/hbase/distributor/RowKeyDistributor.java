@@ -0,0 +1,66 @@
+package cn.darkjrong.hbase.distributor;
+
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.util.List;
+
+/**
+ * 行Key分散策略
+ *  写入前将原始行Key转换为分散行Key, 使单调递增的行Key分布到多个region; 读取后还原为原始行Key
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public interface RowKeyDistributor {
+
+    /**
+     * 原始行Key转换为分散行Key
+     *
+     * @param originalKey 原始行Key
+     * @return 分散行Key
+     */
+    byte[] getDistributedKey(byte[] originalKey);
+
+    /**
+     * 分散行Key还原为原始行Key
+     *
+     * @param distributedKey 分散行Key
+     * @return 原始行Key
+     */
+    byte[] getOriginalKey(byte[] distributedKey);
+
+    /**
+     * 将原始行Key区间的扫描转换为覆盖所有分散区间的子扫描
+     *  各子扫描结果按原始行Key有序, 归并后与未分散时的扫描结果一致; 基于行Key的过滤器不做转换
+     *
+     * @param scan 原始扫描
+     * @return {@link List}<{@link Scan}>
+     */
+    List<Scan> getDistributedScans(Scan scan);
+
+    /**
+     * 建表时的预拆分键, 每个分散区间一个region
+     *
+     * @return 拆分键
+     */
+    byte[][] getSplitKeys();
+
+    /**
+     * 将写入对象的行Key转换为分散行Key
+     *
+     * @param mutation 写入对象
+     * @return {@link Mutation}
+     */
+    Mutation getDistributedMutation(Mutation mutation);
+
+    /**
+     * 将查询结果的行Key还原为原始行Key
+     *
+     * @param result 查询结果
+     * @return {@link Result}
+     */
+    Result getOriginalResult(Result result);
+
+}
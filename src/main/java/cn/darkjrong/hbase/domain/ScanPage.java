@@ -0,0 +1,44 @@
+package cn.darkjrong.hbase.domain;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 扫描分页结果
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Data
+public class ScanPage<T> implements Serializable {
+
+    private static final long serialVersionUID = -4312786021650728843L;
+
+    /**
+     * 当前页数据
+     */
+    private List<T> content;
+
+    /**
+     * 每页行数
+     */
+    private int pageSize;
+
+    /**
+     * 下一页令牌, 传入下次查询即可从本页最后一行之后继续扫描; 没有下一页时为null
+     */
+    private String nextToken;
+
+    /**
+     * 是否有下一页
+     *
+     * @return boolean
+     */
+    public boolean hasNext() {
+        return StrUtil.isNotBlank(nextToken);
+    }
+
+}
@@ -0,0 +1,19 @@
+package cn.darkjrong.hbase.enums;
+
+/**
+ * 滚动压缩单位
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public enum CompactionUnit {
+
+    // 逐个region压缩
+    REGION,
+
+    // 逐个服务压缩, 同一服务上的region同时压缩
+    SERVER,
+
+    ;
+
+}
@@ -0,0 +1,33 @@
+package cn.darkjrong.hbase.enums;
+
+import cn.darkjrong.hbase.distributor.HashRowKeyDistributor;
+import cn.darkjrong.hbase.distributor.ModuloRowKeyDistributor;
+import cn.darkjrong.hbase.distributor.RowKeyDistributor;
+
+/**
+ * 行Key分散方式
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public enum DistributorType {
+
+    // 哈希分桶, 适用于任意行Key
+    HASH,
+
+    // 取模分桶, 适用于以递增序号或时间戳结尾的行Key
+    MODULO,
+
+    ;
+
+    /**
+     * 创建分散策略
+     *
+     * @param buckets 桶数
+     * @return {@link RowKeyDistributor}
+     */
+    public RowKeyDistributor create(int buckets) {
+        return HASH.equals(this) ? new HashRowKeyDistributor(buckets) : new ModuloRowKeyDistributor(buckets);
+    }
+
+}
@@ -0,0 +1,22 @@
+package cn.darkjrong.hbase.enums;
+
+/**
+ * 行Key生成方式
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public enum IdType {
+
+    // 由调用方设置, 为空时保存失败
+    INPUT,
+
+    // 32位UUID(不带-)
+    UUID,
+
+    // 雪花算法
+    SNOWFLAKE,
+
+    ;
+
+}
@@ -0,0 +1,122 @@
+package cn.darkjrong.hbase.mapping;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.hutool.core.convert.BasicType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 属性访问器生成
+ *  优先基于{@link LambdaMetafactory}将构造器, getter, setter生成为函数接口, 调用开销与直接调用一致;
+ *  非public类或无getter/setter时退化为反射访问
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+class Accessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 构造器
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> constructor(Class<T> type) {
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new HbaseException(e, "The entity 【{}】 must declare a no-args constructor", type.getName());
+        }
+        if (isPublic(type) && Modifier.isPublic(constructor.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+                return (Supplier<T>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("constructor {}", type.getName(), e);
+            }
+        }
+        constructor.setAccessible(Boolean.TRUE);
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                throw new HbaseException(e);
+            }
+        };
+    }
+
+    /**
+     * getter
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Class<?> type, Field field) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, field.getName());
+        Method method = descriptor == null ? null : descriptor.getReadMethod();
+        if (method != null && isPublic(method.getDeclaringClass()) && Modifier.isPublic(method.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        MethodType.methodType(BasicType.wrap(method.getReturnType()), method.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("getter {}#{}", type.getName(), field.getName(), e);
+            }
+        }
+        field.setAccessible(Boolean.TRUE);
+        return entity -> {
+            try {
+                return field.get(entity);
+            } catch (IllegalAccessException e) {
+                throw new HbaseException(e);
+            }
+        };
+    }
+
+    /**
+     * setter
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Class<?> type, Field field) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, field.getName());
+        Method method = descriptor == null ? null : descriptor.getWriteMethod();
+        if (method != null && isPublic(method.getDeclaringClass()) && Modifier.isPublic(method.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class), handle,
+                        MethodType.methodType(void.class, method.getDeclaringClass(), BasicType.wrap(method.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("setter {}#{}", type.getName(), field.getName(), e);
+            }
+        }
+        field.setAccessible(Boolean.TRUE);
+        return (entity, value) -> {
+            try {
+                field.set(entity, value);
+            } catch (IllegalAccessException e) {
+                throw new HbaseException(e);
+            }
+        };
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        return Modifier.isPublic(type.getModifiers());
+    }
+
+}
@@ -0,0 +1,45 @@
+package cn.darkjrong.hbase.mapping;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.darkjrong.hbase.support.CellView;
+import cn.hutool.core.util.ObjectUtil;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+
+/**
+ * 实体行映射器
+ *  按启动时生成的映射信息赋值, 单元格值直接解码, 不经过反射
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class EntityRowMapper<T> implements RowMapper<T> {
+
+    private final HbaseEntity<T> entity;
+
+    public EntityRowMapper(HbaseEntity<T> entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public T mapRow(Result result, int rowNum) throws HbaseException {
+        if (ObjectUtil.isNull(result) || result.isEmpty()) {
+            return null;
+        }
+        T instance = entity.newInstance();
+        HbaseEntityProperty rowKey = entity.getRowKey();
+        rowKey.setValue(instance, HbaseUtils.getValue(rowKey.getType(), result.getRow()));
+
+        CellView view = CellView.of(result);
+        for (HbaseEntityProperty property : entity.getColumns()) {
+            Cell cell = view.getCell(property.getFamily(), property.getQualifier());
+            if (ObjectUtil.isNotNull(cell)) {
+                property.setValue(instance, HbaseUtils.getValue(property.getType(), cell));
+            }
+        }
+        return instance;
+    }
+
+}
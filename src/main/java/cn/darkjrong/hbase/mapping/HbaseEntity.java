@@ -0,0 +1,127 @@
+package cn.darkjrong.hbase.mapping;
+
+import cn.darkjrong.hbase.HbaseConstant;
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.annotation.Column;
+import cn.darkjrong.hbase.annotation.HbaseTable;
+import cn.darkjrong.hbase.annotation.RowKey;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Getter;
+import org.apache.hadoop.hbase.client.Put;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 实体映射信息
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Getter
+public class HbaseEntity<T> {
+
+    private final Class<T> type;
+    private final String tableName;
+    private final HbaseEntityProperty rowKey;
+    private final List<HbaseEntityProperty> columns;
+    private final EntityRowMapper<T> rowMapper;
+    private final Supplier<T> constructor;
+
+    HbaseEntity(Class<T> type) {
+        HbaseTable table = AnnotatedElementUtils.findMergedAnnotation(type, HbaseTable.class);
+        if (ObjectUtil.isNull(table)) {
+            throw new HbaseException(HbaseExceptionEnum.MAPPED.getValue(), type.getName());
+        }
+        this.type = type;
+        this.tableName = StrUtil.blankToDefault(table.value(), StrUtil.toUnderlineCase(type.getSimpleName()));
+        this.constructor = Accessors.constructor(type);
+
+        HbaseEntityProperty rowKeyProperty = null;
+        HbaseEntityProperty idProperty = null;
+        List<HbaseEntityProperty> properties = CollectionUtil.newArrayList();
+        for (Field field : ReflectUtil.getFields(type)) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || Modifier.isFinal(modifiers)
+                    || field.isSynthetic() || StrUtil.equals(field.getName(), HbaseConstant.SERIAL_VERSION_ID)) {
+                continue;
+            }
+            if (field.isAnnotationPresent(RowKey.class)) {
+                rowKeyProperty = new HbaseEntityProperty(type, field, null, null);
+                continue;
+            }
+            Column column = AnnotatedElementUtils.findMergedAnnotation(field, Column.class);
+            if (ObjectUtil.isNotNull(column) && column.ignore()) {
+                continue;
+            }
+            String family = ObjectUtil.isNull(column) ? table.columnFamily() : StrUtil.blankToDefault(column.columnFamily(), table.columnFamily());
+            String qualifier = ObjectUtil.isNull(column) ? field.getName() : StrUtil.blankToDefault(column.value(), field.getName());
+            HbaseEntityProperty property = new HbaseEntityProperty(type, field, HbaseUtils.toBytes(family), HbaseUtils.toBytes(qualifier));
+            if (StrUtil.equals(field.getName(), HbaseConstant.ID) && ObjectUtil.isNull(column)) {
+                idProperty = property;
+            }
+            properties.add(property);
+        }
+
+        if (ObjectUtil.isNull(rowKeyProperty)) {
+            if (ObjectUtil.isNull(idProperty)) {
+                throw new HbaseException(HbaseExceptionEnum.ID_NOT_FOUND.getValue(), type.getName());
+            }
+            properties.remove(idProperty);
+            rowKeyProperty = idProperty;
+        }
+        this.rowKey = rowKeyProperty;
+        this.columns = Collections.unmodifiableList(properties);
+        this.rowMapper = new EntityRowMapper<>(this);
+    }
+
+    /**
+     * 创建实例
+     *
+     * @return {@link T}
+     */
+    public T newInstance() {
+        return constructor.get();
+    }
+
+    /**
+     * 获取行Key值
+     *
+     * @param entity 实体
+     * @return {@link Object}
+     */
+    public Object getRowKeyValue(Object entity) {
+        return rowKey.getValue(entity);
+    }
+
+    /**
+     * 转换为插入对象, 值为null的属性不写入
+     *
+     * @param entity 实体
+     * @return {@link Put}
+     */
+    public Put toPut(Object entity) {
+        Object id = getRowKeyValue(entity);
+        if (ObjectUtil.isNull(id) || (id instanceof CharSequence && StrUtil.isBlank((CharSequence) id))) {
+            throw new HbaseException(HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, rowKey.getName()));
+        }
+        Put put = new Put(HbaseUtils.toRowKey(id));
+        for (HbaseEntityProperty property : columns) {
+            Object value = property.getValue(entity);
+            if (ObjectUtil.isNotNull(value)) {
+                put.addColumn(property.getFamily(), property.getQualifier(), HbaseUtils.toBytes(value));
+            }
+        }
+        return put;
+    }
+
+}
@@ -0,0 +1,29 @@
+package cn.darkjrong.hbase.mapping;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link cn.darkjrong.hbase.annotation.HbaseEntityScan} 指定的扫描包
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class HbaseEntityPackages {
+
+    private final Set<String> packages = new LinkedHashSet<>();
+
+    public HbaseEntityPackages(String... packages) {
+        Collections.addAll(this.packages, packages);
+    }
+
+    void addPackages(String... packages) {
+        Collections.addAll(this.packages, packages);
+    }
+
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+
+}
@@ -0,0 +1,70 @@
+package cn.darkjrong.hbase.mapping;
+
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 实体属性映射信息
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Getter
+public class HbaseEntityProperty {
+
+    /**
+     * 属性名
+     */
+    private final String name;
+
+    /**
+     * 属性类型
+     */
+    private final Class<?> type;
+
+    /**
+     * 列族, 行Key为null
+     */
+    private final byte[] family;
+
+    /**
+     * 字段名, 行Key为null
+     */
+    private final byte[] qualifier;
+
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    HbaseEntityProperty(Class<?> entityClass, Field field, byte[] family, byte[] qualifier) {
+        this.name = field.getName();
+        this.type = field.getType();
+        this.family = family;
+        this.qualifier = qualifier;
+        this.getter = Accessors.getter(entityClass, field);
+        this.setter = Accessors.setter(entityClass, field);
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param entity 实体
+     * @return {@link Object}
+     */
+    public Object getValue(Object entity) {
+        return getter.apply(entity);
+    }
+
+    /**
+     * 设置属性值
+     *
+     * @param entity 实体
+     * @param value  值
+     */
+    public void setValue(Object entity, Object value) {
+        setter.accept(entity, value);
+    }
+
+}
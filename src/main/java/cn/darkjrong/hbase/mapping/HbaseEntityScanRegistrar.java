@@ -0,0 +1,65 @@
+package cn.darkjrong.hbase.mapping;
+
+import cn.darkjrong.hbase.HbaseConstant;
+import cn.darkjrong.hbase.annotation.HbaseEntityScan;
+import cn.hutool.core.util.ArrayUtil;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link HbaseEntityScan} 注册器, 将扫描包注册为{@link HbaseEntityPackages}
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class HbaseEntityScanRegistrar implements ImportBeanDefinitionRegistrar {
+
+    private static final String BEAN_NAME = HbaseEntityPackages.class.getName();
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
+        String[] packages = StringUtils.toStringArray(getPackages(metadata));
+        if (registry.containsBeanDefinition(BEAN_NAME)) {
+            BeanDefinition beanDefinition = registry.getBeanDefinition(BEAN_NAME);
+            ConstructorArgumentValues.ValueHolder holder = beanDefinition.getConstructorArgumentValues().getIndexedArgumentValue(0, String[].class);
+            String[] existing = holder == null ? new String[0] : (String[]) holder.getValue();
+            beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(0, ArrayUtil.addAll(existing, packages));
+        } else {
+            GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+            beanDefinition.setBeanClass(HbaseEntityPackages.class);
+            beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(0, packages);
+            beanDefinition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+            registry.registerBeanDefinition(BEAN_NAME, beanDefinition);
+        }
+    }
+
+    private Set<String> getPackages(AnnotationMetadata metadata) {
+        AnnotationAttributes attributes = AnnotationAttributes.fromMap(metadata.getAnnotationAttributes(HbaseEntityScan.class.getName()));
+        Set<String> packages = new LinkedHashSet<>();
+        if (attributes != null) {
+            for (String basePackage : attributes.getStringArray(HbaseConstant.BASE_PACKAGES)) {
+                if (StringUtils.hasText(basePackage)) {
+                    packages.add(basePackage.trim());
+                }
+            }
+            for (Class<?> basePackageClass : attributes.getClassArray("basePackageClasses")) {
+                packages.add(ClassUtils.getPackageName(basePackageClass));
+            }
+        }
+        if (packages.isEmpty()) {
+            packages.add(ClassUtils.getPackageName(metadata.getClassName()));
+        }
+        return packages;
+    }
+
+}
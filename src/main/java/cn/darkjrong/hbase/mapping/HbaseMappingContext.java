@@ -0,0 +1,103 @@
+package cn.darkjrong.hbase.mapping;
+
+import cn.darkjrong.hbase.annotation.HbaseTable;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.darkjrong.hbase.enums.IdType;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 实体映射上下文
+ *  启动时扫描{@link HbaseTable}实体并生成映射信息, 未扫描到的实体在首次使用时生成
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class HbaseMappingContext {
+
+    private final ConcurrentMap<Class<?>, HbaseEntity<?>> entities = new ConcurrentHashMap<>();
+
+    /**
+     * 行Key生成方式
+     */
+    @Getter
+    @Setter
+    private IdType idType = IdType.INPUT;
+
+    /**
+     * 扫描包, 生成映射信息
+     *
+     * @param basePackages 扫描包
+     */
+    public void scan(Collection<String> basePackages) {
+        if (CollectionUtil.isEmpty(basePackages)) {
+            return;
+        }
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(Boolean.FALSE);
+        provider.addIncludeFilter(new AnnotationTypeFilter(HbaseTable.class));
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+                HbaseEntity<?> entity = getEntity(ClassUtil.loadClass(candidate.getBeanClassName()));
+                log.debug("hbase entity {} -> {}", entity.getType().getName(), entity.getTableName());
+            }
+        }
+    }
+
+    /**
+     * 获取实体映射信息
+     *
+     * @param type 实体类
+     * @return {@link HbaseEntity}<{@link T}>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> HbaseEntity<T> getEntity(Class<T> type) {
+        Assert.notNull(type, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "entityClass"));
+        return (HbaseEntity<T>) entities.computeIfAbsent(type, HbaseEntity::new);
+    }
+
+    /**
+     * 获取实体行Key, 为空时按{@link #idType}生成并回写至实体
+     *
+     * @param entity 实体映射信息
+     * @param value  实体
+     * @return {@link Object} 行Key
+     */
+    public Object getOrGenerateId(HbaseEntity<?> entity, Object value) {
+        Object id = entity.getRowKeyValue(value);
+        if (ObjectUtil.isNotNull(id) && !(id instanceof CharSequence && StrUtil.isBlank((CharSequence) id))) {
+            return id;
+        }
+        String generated;
+        switch (idType) {
+            case UUID:
+                generated = IdUtil.fastSimpleUUID();
+                break;
+            case SNOWFLAKE:
+                generated = IdUtil.getSnowflakeNextIdStr();
+                break;
+            default:
+                return id;
+        }
+        HbaseEntityProperty rowKey = entity.getRowKey();
+        id = Convert.convert(rowKey.getType(), generated);
+        rowKey.setValue(value, id);
+        return id;
+    }
+
+}
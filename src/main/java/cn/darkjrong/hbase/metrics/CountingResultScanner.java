@@ -0,0 +1,57 @@
+package cn.darkjrong.hbase.metrics;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+
+import java.io.IOException;
+
+/**
+ * 计数扫描器, 统计实际读取的行数
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class CountingResultScanner implements ResultScanner {
+
+    private final ResultScanner delegate;
+    private long rows = 0;
+
+    public CountingResultScanner(ResultScanner delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Result next() throws IOException {
+        Result result = delegate.next();
+        if (result != null) {
+            rows++;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public boolean renewLease() {
+        return delegate.renewLease();
+    }
+
+    @Override
+    public ScanMetrics getScanMetrics() {
+        return delegate.getScanMetrics();
+    }
+
+    /**
+     * 获取已读取的行数
+     *
+     * @return long
+     */
+    public long getRows() {
+        return rows;
+    }
+
+}
@@ -0,0 +1,63 @@
+package cn.darkjrong.hbase.metrics;
+
+import cn.darkjrong.hbase.support.RowCache;
+
+import java.util.function.Supplier;
+
+/**
+ * hbase 指标记录
+ *  默认不记录, 引入Micrometer后自动使用{@link MicrometerHbaseMetrics}
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public interface HbaseMetrics {
+
+    /**
+     * 不记录任何指标
+     */
+    HbaseMetrics NOOP = new HbaseMetrics() {};
+
+    /**
+     * 记录操作耗时
+     *
+     * @param tableName     表名
+     * @param operation     操作
+     * @param durationNanos 耗时(纳秒)
+     * @param success       是否成功
+     */
+    default void recordOperation(String tableName, String operation, long durationNanos, boolean success) {}
+
+    /**
+     * 记录扫描返回行数
+     *
+     * @param tableName 表名
+     * @param rows      行数
+     */
+    default void recordScanRows(String tableName, long rows) {}
+
+    /**
+     * 记录单批写入数据大小
+     *
+     * @param tableName 表名
+     * @param bytes     字节数
+     */
+    default void recordMutationBytes(String tableName, long bytes) {}
+
+    /**
+     * 注册写缓冲区占用量
+     *
+     * @param tableName  表名
+     * @param bufferSize 当前缓冲区占用字节数
+     */
+    default void bindMutatorBuffer(String tableName, Supplier<Number> bufferSize) {}
+
+    /**
+     * 注册行缓存命中, 未命中, 淘汰次数及缓存行数
+     *
+     * @param tableName 表名
+     * @param rowCache  行缓存
+     */
+    default void bindRowCache(String tableName, RowCache rowCache) {}
+
+}
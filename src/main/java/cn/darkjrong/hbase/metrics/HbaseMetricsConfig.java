@@ -0,0 +1,30 @@
+package cn.darkjrong.hbase.metrics;
+
+import cn.darkjrong.spring.boot.autoconfigure.HbaseProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * hbase 指标配置
+ *  引入Micrometer时自动开启, 关闭：spring.data.hbase.metrics.enabled=false
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = "spring.data.hbase.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HbaseMetricsConfig {
+
+    @Bean
+    public HbaseMetrics hbaseMetrics(ObjectProvider<MeterRegistry> meterRegistry, HbaseProperties hbaseProperties) {
+        return new MicrometerHbaseMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                hbaseProperties.getMetrics().isHistogram());
+    }
+
+}
@@ -0,0 +1,122 @@
+package cn.darkjrong.hbase.metrics;
+
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.darkjrong.hbase.support.RowCache;
+import cn.hutool.core.lang.Assert;
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 基于Micrometer的指标记录
+ *  hbase.client.operations: 操作耗时, 标签 table, operation, outcome
+ *  hbase.client.scan.rows: 单次扫描返回行数, 标签 table
+ *  hbase.client.mutation.size: 单批写入数据大小, 标签 table
+ *  hbase.client.mutator.buffer: 写缓冲区占用量, 标签 table
+ *  hbase.client.cache.requests: 行缓存请求次数, 标签 table, result
+ *  hbase.client.cache.evictions: 行缓存淘汰行数, 标签 table
+ *  hbase.client.cache.size: 行缓存行数, 标签 table
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class MicrometerHbaseMetrics implements HbaseMetrics {
+
+    public static final String OPERATIONS = "hbase.client.operations";
+    public static final String SCAN_ROWS = "hbase.client.scan.rows";
+    public static final String MUTATION_SIZE = "hbase.client.mutation.size";
+    public static final String MUTATOR_BUFFER = "hbase.client.mutator.buffer";
+    public static final String CACHE_REQUESTS = "hbase.client.cache.requests";
+    public static final String CACHE_EVICTIONS = "hbase.client.cache.evictions";
+    public static final String CACHE_SIZE = "hbase.client.cache.size";
+
+    private static final String TABLE = "table";
+    private static final String OPERATION = "operation";
+    private static final String OUTCOME = "outcome";
+    private static final String RESULT = "result";
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+
+    private final MeterRegistry registry;
+    private final boolean histogram;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public MicrometerHbaseMetrics(MeterRegistry registry) {
+        this(registry, Boolean.TRUE);
+    }
+
+    /**
+     * @param registry  指标注册中心
+     * @param histogram 是否发布百分位直方图
+     */
+    public MicrometerHbaseMetrics(MeterRegistry registry, boolean histogram) {
+        Assert.notNull(registry, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "registry"));
+        this.registry = registry;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void recordOperation(String tableName, String operation, long durationNanos, boolean success) {
+        String outcome = success ? SUCCESS : ERROR;
+        timers.computeIfAbsent(tableName + '|' + operation + '|' + outcome, key -> Timer.builder(OPERATIONS)
+                        .description("hbase client operation latency")
+                        .tags(TABLE, tableName, OPERATION, operation, OUTCOME, outcome)
+                        .publishPercentileHistogram(histogram)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordScanRows(String tableName, long rows) {
+        summary(SCAN_ROWS, tableName, "rows", "hbase client rows returned per scan").record(rows);
+    }
+
+    @Override
+    public void recordMutationBytes(String tableName, long bytes) {
+        summary(MUTATION_SIZE, tableName, BaseUnits.BYTES, "hbase client bytes written per mutation batch").record(bytes);
+    }
+
+    @Override
+    public void bindMutatorBuffer(String tableName, Supplier<Number> bufferSize) {
+        Gauge.builder(MUTATOR_BUFFER, bufferSize)
+                .description("hbase client mutator write buffer occupancy")
+                .tags(TABLE, tableName)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    @Override
+    public void bindRowCache(String tableName, RowCache rowCache) {
+        FunctionCounter.builder(CACHE_REQUESTS, rowCache, RowCache::getHitCount)
+                .description("hbase client row cache requests")
+                .tags(TABLE, tableName, RESULT, "hit")
+                .register(registry);
+        FunctionCounter.builder(CACHE_REQUESTS, rowCache, RowCache::getMissCount)
+                .description("hbase client row cache requests")
+                .tags(TABLE, tableName, RESULT, "miss")
+                .register(registry);
+        FunctionCounter.builder(CACHE_EVICTIONS, rowCache, RowCache::getEvictionCount)
+                .description("hbase client row cache evictions")
+                .tags(TABLE, tableName)
+                .register(registry);
+        Gauge.builder(CACHE_SIZE, rowCache, RowCache::size)
+                .description("hbase client row cache size")
+                .tags(TABLE, tableName)
+                .register(registry);
+    }
+
+    private DistributionSummary summary(String name, String tableName, String baseUnit, String description) {
+        return summaries.computeIfAbsent(name + '|' + tableName, key -> DistributionSummary.builder(name)
+                .description(description)
+                .tags(TABLE, tableName)
+                .baseUnit(baseUnit)
+                .publishPercentileHistogram(histogram)
+                .register(registry));
+    }
+
+}
@@ -0,0 +1,29 @@
+package cn.darkjrong.hbase.scan;
+
+/**
+ * 并行扫描结果合并方式
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+public enum MergeMode {
+
+    /**
+     * 有序合并, 按region顺序输出, 与顺序扫描结果一致
+     */
+    ORDERED,
+
+    /**
+     * 无序合并, 各region结果到达即输出, 吞吐最高
+     */
+    UNORDERED,
+
+    /**
+     * 按行键归并, 各子扫描结果有序时输出整体有序, 适用于行键区间相互交叠的子扫描;
+     * 各子扫描在调用线程中拉取, 借助客户端异步预取并发读取, 不占用并行扫描线程池
+     */
+    SORTED,
+
+    ;
+
+}
@@ -0,0 +1,262 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 并行扫描器
+ *  每个子扫描在线程池中独立执行, 结果写入有界队列, 由调用线程按{@link MergeMode}合并读取;
+ *  {@link MergeMode#SORTED}需同时持有所有子扫描的当前行, 子扫描数超过线程数时队列写满的子扫描会占住线程,
+ *  因此改为在调用线程中打开各子扫描并逐行拉取, 由客户端异步预取并发读取各子扫描;
+ *  子扫描失败时{@link #next()}抛出{@link IOException}(非IO异常包装为其原因)并关闭扫描器;
+ *  子扫描的指标不汇总, {@link #getScanMetrics()}始终返回null
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Slf4j
+public class ParallelResultScanner implements ResultScanner {
+
+    /**
+     * 子扫描结束标记
+     */
+    private static final Object END = new Object();
+
+    private static final long OFFER_TIMEOUT_MS = 100L;
+
+    private final MergeMode mergeMode;
+    private final UnaryOperator<Result> transformer;
+    private final long limit;
+    private final List<BlockingQueue<Object>> queues = CollectionUtil.newArrayList();
+    private final List<Future<?>> futures = CollectionUtil.newArrayList();
+    private final List<ResultScanner> scanners = CollectionUtil.newArrayList();
+    private Table table;
+
+    private int current = 0;
+    private int remaining;
+    private long returned = 0L;
+    private Result[] heads;
+    private volatile boolean closed = Boolean.FALSE;
+
+    /**
+     * @param connection    连接
+     * @param tableName     表名
+     * @param scans         子扫描, 需按行键顺序排列
+     * @param executor      线程池
+     * @param mergeMode     合并方式
+     * @param queueCapacity 每个子扫描的缓冲行数
+     */
+    public ParallelResultScanner(Connection connection, TableName tableName, List<Scan> scans,
+                                 ExecutorService executor, MergeMode mergeMode, int queueCapacity) {
+        this(connection, tableName, scans, executor, mergeMode, queueCapacity, UnaryOperator.identity(), 0L);
+    }
+
+    /**
+     * @param connection    连接
+     * @param tableName     表名
+     * @param scans         子扫描, {@link MergeMode#ORDERED}时需按行键顺序排列
+     * @param executor      线程池
+     * @param mergeMode     合并方式
+     * @param queueCapacity 每个子扫描的缓冲行数
+     * @param transformer   结果转换, 在扫描线程中执行, {@link MergeMode#SORTED}在调用线程中执行并按转换后的行键归并
+     * @param limit         最多返回行数, <= 0 不限制
+     */
+    public ParallelResultScanner(Connection connection, TableName tableName, List<Scan> scans, ExecutorService executor,
+                                 MergeMode mergeMode, int queueCapacity, UnaryOperator<Result> transformer, long limit) {
+        this.mergeMode = mergeMode;
+        this.transformer = transformer;
+        this.limit = limit;
+        this.remaining = scans.size();
+
+        if (MergeMode.SORTED.equals(mergeMode)) {
+            openScanners(connection, tableName, scans);
+            return;
+        }
+        BlockingQueue<Object> shared = MergeMode.UNORDERED.equals(mergeMode) ? new ArrayBlockingQueue<>(queueCapacity) : null;
+        for (Scan scan : scans) {
+            BlockingQueue<Object> queue = shared != null ? shared : new ArrayBlockingQueue<>(queueCapacity);
+            if (shared == null || queues.isEmpty()) {
+                queues.add(queue);
+            }
+            futures.add(executor.submit(() -> produce(connection, tableName, scan, queue)));
+        }
+    }
+
+    private void openScanners(Connection connection, TableName tableName, List<Scan> scans) {
+        try {
+            table = connection.getTable(tableName);
+            for (Scan scan : scans) {
+                if (ObjectUtil.isNull(scan.isAsyncPrefetch())) {
+                    scan.setAsyncPrefetch(Boolean.TRUE);
+                }
+                scanners.add(table.getScanner(scan));
+            }
+        } catch (IOException e) {
+            log.error("parallel scan", e);
+            close();
+            throw new HbaseException(e);
+        }
+    }
+
+    private void produce(Connection connection, TableName tableName, Scan scan, BlockingQueue<Object> queue) {
+        Table table = null;
+        ResultScanner scanner = null;
+        try {
+            table = connection.getTable(tableName);
+            scanner = table.getScanner(scan);
+            Result result;
+            while (!closed && (result = scanner.next()) != null) {
+                offer(queue, transformer.apply(result));
+            }
+            offer(queue, END);
+        } catch (Throwable e) {
+            if (!closed) {
+                log.error("parallel scan", e);
+                offer(queue, e);
+            }
+        } finally {
+            HbaseUtils.close(scanner);
+            HbaseUtils.close(table);
+        }
+    }
+
+    private void offer(BlockingQueue<Object> queue, Object item) {
+        try {
+            while (!closed && !queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                // 消费者处理较慢, 等待队列空闲
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Result next() throws IOException {
+        if (limit > 0 && returned >= limit) {
+            close();
+            return null;
+        }
+        Result result = MergeMode.SORTED.equals(mergeMode) ? nextSorted() : nextQueued();
+        if (result != null) {
+            returned++;
+        }
+        return result;
+    }
+
+    /**
+     * 取各子扫描当前行中行键最小的一行
+     */
+    private Result nextSorted() throws IOException {
+        if (heads == null) {
+            heads = new Result[scanners.size()];
+            for (int i = 0; i < heads.length; i++) {
+                heads[i] = take(i);
+            }
+        }
+        int min = -1;
+        for (int i = 0; i < heads.length; i++) {
+            if (heads[i] != null && (min < 0 || Bytes.compareTo(heads[i].getRow(), heads[min].getRow()) < 0)) {
+                min = i;
+            }
+        }
+        if (min < 0 || closed) {
+            return null;
+        }
+        Result result = heads[min];
+        heads[min] = take(min);
+        return result;
+    }
+
+    /**
+     * 取子扫描的下一行, 子扫描结束时返回null
+     */
+    private Result take(int index) throws IOException {
+        if (closed) {
+            return null;
+        }
+        if (MergeMode.SORTED.equals(mergeMode)) {
+            Result result = scanners.get(index).next();
+            return result == null ? null : transformer.apply(result);
+        }
+        Object item;
+        try {
+            item = queues.get(index).take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("parallel scan interrupted");
+        }
+        if (item == END) {
+            remaining--;
+            return null;
+        }
+        if (item instanceof Throwable) {
+            throw failure((Throwable) item);
+        }
+        return (Result) item;
+    }
+
+    private Result nextQueued() throws IOException {
+        while (!closed && remaining > 0) {
+            Object item;
+            try {
+                item = queues.get(current).take();
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("parallel scan interrupted");
+            }
+            if (item == END) {
+                remaining--;
+                if (MergeMode.ORDERED.equals(mergeMode)) {
+                    current++;
+                }
+            } else if (item instanceof Throwable) {
+                throw failure((Throwable) item);
+            } else {
+                return (Result) item;
+            }
+        }
+        return null;
+    }
+
+    private IOException failure(Throwable throwable) {
+        close();
+        return throwable instanceof IOException ? (IOException) throwable : new IOException(throwable);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = Boolean.TRUE;
+            futures.forEach(a -> a.cancel(Boolean.FALSE));
+            queues.forEach(BlockingQueue::clear);
+            scanners.forEach(HbaseUtils::close);
+            HbaseUtils.close(table);
+        }
+    }
+
+    @Override
+    public boolean renewLease() {
+        return Boolean.FALSE;
+    }
+
+    @Override
+    public ScanMetrics getScanMetrics() {
+        return null;
+    }
+
+}
@@ -0,0 +1,127 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * region并行扫描
+ *  按region边界拆分扫描, 在有界线程池中并发执行各子扫描
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Slf4j
+@Getter
+public class ParallelScanner implements Closeable {
+
+    /**
+     * 默认每个子扫描缓冲行数
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final Connection connection;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final ExecutorService executor;
+
+    public ParallelScanner(Connection connection) {
+        this(connection, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param connection    连接
+     * @param parallelism   并行度, 同时执行的子扫描数
+     * @param queueCapacity 每个子扫描缓冲行数
+     */
+    public ParallelScanner(Connection connection, int parallelism, int queueCapacity) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.isTrue(parallelism > 0, "The given 'parallelism' must be greater than 0");
+        Assert.isTrue(queueCapacity > 0, "The given 'queueCapacity' must be greater than 0");
+        this.connection = connection;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-parallel-scan-").setDaemon(Boolean.TRUE).build());
+        ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(Boolean.TRUE);
+    }
+
+    /**
+     * 按region边界拆分扫描
+     *
+     * @param tableName 表名
+     * @param scan      扫描对象
+     * @return {@link List}<{@link Scan}>
+     * @throws HbaseException hbase异常
+     */
+    public List<Scan> split(String tableName, Scan scan) throws HbaseException {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        try (RegionLocator locator = connection.getRegionLocator(TableName.valueOf(tableName))) {
+            return ScanSplitter.split(scan, locator.getStartEndKeys());
+        } catch (IOException e) {
+            log.error("split", e);
+            throw new HbaseException(e);
+        }
+    }
+
+    /**
+     * 获取并行扫描器
+     *
+     * @param tableName 表名
+     * @param scan      扫描对象
+     * @param mergeMode 合并方式
+     * @return {@link ResultScanner}
+     * @throws HbaseException hbase异常
+     */
+    public ResultScanner getScanner(String tableName, Scan scan, MergeMode mergeMode) throws HbaseException {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.notNull(mergeMode, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mergeMode"));
+        List<Scan> scans = split(tableName, scan);
+        return new ParallelResultScanner(connection, TableName.valueOf(tableName), scans, executor, mergeMode, queueCapacity);
+    }
+
+    /**
+     * 获取并行扫描器, 子扫描不再拆分
+     *
+     * @param tableName   表名
+     * @param scans       子扫描
+     * @param mergeMode   合并方式
+     * @param transformer 结果转换, 在扫描线程中执行
+     * @param limit       最多返回行数, <= 0 不限制
+     * @return {@link ResultScanner}
+     */
+    public ResultScanner getScanner(String tableName, List<Scan> scans, MergeMode mergeMode,
+                                    UnaryOperator<Result> transformer, long limit) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notEmpty(scans, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scans"));
+        Assert.notNull(mergeMode, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "mergeMode"));
+        Assert.notNull(transformer, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "transformer"));
+        return new ParallelResultScanner(connection, TableName.valueOf(tableName), scans, executor, mergeMode,
+                queueCapacity, transformer, limit);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,435 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import org.apache.hadoop.hbase.CompareOperator;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.*;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 扫描构造器
+ *  以链式调用描述行区间, 列投影, 值条件, 时间范围及行数限制, 编译为{@link Scan}后交由region server过滤
+ *
+ * <pre>
+ *  Scan scan = ScanBuilder.create()
+ *          .prefix("user_")
+ *          .column("info", "name")
+ *          .eq("info", "status", "ACTIVE")
+ *          .limit(100)
+ *          .build();
+ *  hbaseTemplate.find("t_user", scan, rowMapper);
+ * </pre>
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class ScanBuilder {
+
+    /**
+     * 默认每次RPC返回的行数
+     */
+    public static final int DEFAULT_CACHING = 500;
+
+    /**
+     * 行数限制不超过该值时使用pread读取, 减少小范围扫描的IO
+     */
+    public static final int SMALL_SCAN_LIMIT = 100;
+
+    private byte[] startRow;
+    private boolean includeStartRow = Boolean.TRUE;
+    private byte[] stopRow;
+    private boolean includeStopRow = Boolean.FALSE;
+    private byte[] prefix;
+
+    /**
+     * 列投影, key: 列族, value: 列名, 为空时返回整个列族
+     */
+    private final Map<byte[], NavigableSet<byte[]>> projection = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+
+    private final List<SingleColumnValueFilter> predicates = CollectionUtil.newArrayList();
+    private FilterList.Operator predicateOperator = FilterList.Operator.MUST_PASS_ALL;
+    private final List<Filter> filters = CollectionUtil.newArrayList();
+
+    private Long minTimestamp;
+    private Long maxTimestamp;
+    private int versions = 1;
+    private int limit;
+    private boolean keyOnly = Boolean.FALSE;
+    private boolean reversed = Boolean.FALSE;
+    private Integer caching;
+    private boolean cacheBlocks = Boolean.TRUE;
+
+    private ScanBuilder() {
+    }
+
+    public static ScanBuilder create() {
+        return new ScanBuilder();
+    }
+
+    /**
+     * 开始行(包含)
+     *
+     * @param row 行Key, 支持{@link String}, {@link Number}, byte[]
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder startRow(Object row) {
+        return startRow(row, Boolean.TRUE);
+    }
+
+    /**
+     * 开始行
+     *
+     * @param row       行Key
+     * @param inclusive 是否包含
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder startRow(Object row, boolean inclusive) {
+        this.startRow = rowBytes(row, "startRow");
+        this.includeStartRow = inclusive;
+        return this;
+    }
+
+    /**
+     * 结束行(不包含)
+     *
+     * @param row 行Key
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder stopRow(Object row) {
+        return stopRow(row, Boolean.FALSE);
+    }
+
+    /**
+     * 结束行
+     *
+     * @param row       行Key
+     * @param inclusive 是否包含
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder stopRow(Object row, boolean inclusive) {
+        this.stopRow = rowBytes(row, "stopRow");
+        this.includeStopRow = inclusive;
+        return this;
+    }
+
+    /**
+     * 行Key前缀, 编译为开始行与结束行, 与{@link #startRow}, {@link #stopRow}互斥
+     *
+     * @param prefix 行Key前缀
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder prefix(Object prefix) {
+        this.prefix = rowBytes(prefix, "prefix");
+        return this;
+    }
+
+    /**
+     * 投影整个列族
+     *
+     * @param columnFamily 列族
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder family(String columnFamily) {
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+        projection.put(Bytes.toBytes(columnFamily), null);
+        return this;
+    }
+
+    /**
+     * 投影列
+     *
+     * @param columnFamily 列族
+     * @param qualifiers   列名
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder column(String columnFamily, String... qualifiers) {
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+        Assert.notEmpty(qualifiers, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "qualifiers"));
+        byte[] family = Bytes.toBytes(columnFamily);
+        for (String qualifier : qualifiers) {
+            addColumn(family, Bytes.toBytes(qualifier));
+        }
+        return this;
+    }
+
+    /**
+     * 列值条件, 编译为{@link SingleColumnValueFilter}, 不存在该列的行被过滤
+     *  值按字节序比较, 数值的大小比较仅在编码保持顺序时有效
+     *
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param operator     比较方式
+     * @param value        值, 支持byte[]及{@link HbaseUtils#toBytes(Object)}可编码的类型
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder where(String columnFamily, String qualifier, CompareOperator operator, Object value) {
+        Assert.notNull(operator, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "operator"));
+        Assert.notNull(value, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "value"));
+        byte[] bytes = value instanceof byte[] ? (byte[]) value : HbaseUtils.toBytes(value);
+        return where(columnFamily, qualifier, operator, new BinaryComparator(bytes));
+    }
+
+    /**
+     * 列值条件
+     *
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param operator     比较方式
+     * @param comparator   比较器
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder where(String columnFamily, String qualifier, CompareOperator operator, ByteArrayComparable comparator) {
+        Assert.notBlank(columnFamily, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "columnFamily"));
+        Assert.notBlank(qualifier, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "qualifier"));
+        Assert.notNull(operator, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "operator"));
+        Assert.notNull(comparator, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "comparator"));
+        SingleColumnValueFilter filter = new SingleColumnValueFilter(Bytes.toBytes(columnFamily),
+                Bytes.toBytes(qualifier), operator, comparator);
+        filter.setFilterIfMissing(Boolean.TRUE);
+        filter.setLatestVersionOnly(Boolean.TRUE);
+        predicates.add(filter);
+        return this;
+    }
+
+    public ScanBuilder eq(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.EQUAL, value);
+    }
+
+    public ScanBuilder ne(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.NOT_EQUAL, value);
+    }
+
+    public ScanBuilder gt(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.GREATER, value);
+    }
+
+    public ScanBuilder ge(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.GREATER_OR_EQUAL, value);
+    }
+
+    public ScanBuilder lt(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.LESS, value);
+    }
+
+    public ScanBuilder le(String columnFamily, String qualifier, Object value) {
+        return where(columnFamily, qualifier, CompareOperator.LESS_OR_EQUAL, value);
+    }
+
+    /**
+     * 列值前缀条件
+     *
+     * @param columnFamily 列族
+     * @param qualifier    列名
+     * @param prefix       值前缀
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder startsWith(String columnFamily, String qualifier, String prefix) {
+        Assert.notNull(prefix, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "prefix"));
+        return where(columnFamily, qualifier, CompareOperator.EQUAL, new BinaryPrefixComparator(Bytes.toBytes(prefix)));
+    }
+
+    /**
+     * 各列值条件满足任意一个即可, 默认需全部满足
+     *
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder anyMatch() {
+        this.predicateOperator = FilterList.Operator.MUST_PASS_ONE;
+        return this;
+    }
+
+    /**
+     * 追加自定义过滤器, 与列值条件同时满足
+     *
+     * @param filter 过滤器
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder filter(Filter filter) {
+        Assert.notNull(filter, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "filter"));
+        filters.add(filter);
+        return this;
+    }
+
+    /**
+     * 时间范围 [minTimestamp, maxTimestamp)
+     *
+     * @param minTimestamp 最小时间戳(包含)
+     * @param maxTimestamp 最大时间戳(不包含)
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder timeRange(long minTimestamp, long maxTimestamp) {
+        Assert.isTrue(minTimestamp >= 0 && minTimestamp < maxTimestamp, "The given 'timeRange' is invalid");
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        return this;
+    }
+
+    /**
+     * 每列返回的版本数, 默认：1
+     *
+     * @param versions 版本数
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder versions(int versions) {
+        Assert.isTrue(versions > 0, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "versions"));
+        this.versions = versions;
+        return this;
+    }
+
+    /**
+     * 最多返回的行数
+     *
+     * @param limit 行数
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder limit(int limit) {
+        Assert.isTrue(limit > 0, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "limit"));
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * 只返回行Key, 不传输列值
+     *  无列值条件时每行只返回第一个单元格
+     *
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder keyOnly() {
+        this.keyOnly = Boolean.TRUE;
+        return this;
+    }
+
+    /**
+     * 反向扫描, 此时开始行应大于结束行
+     *
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder reversed() {
+        this.reversed = Boolean.TRUE;
+        return this;
+    }
+
+    /**
+     * 每次RPC返回的行数, 默认：{@link #DEFAULT_CACHING}, 设置行数限制时不超过限制
+     *
+     * @param caching 行数
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder caching(int caching) {
+        Assert.isTrue(caching > 0, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "caching"));
+        this.caching = caching;
+        return this;
+    }
+
+    /**
+     * 是否将读取的数据块放入region server块缓存, 一次性的全表扫描建议关闭, 默认：true
+     *
+     * @param cacheBlocks 是否缓存
+     * @return {@link ScanBuilder}
+     */
+    public ScanBuilder cacheBlocks(boolean cacheBlocks) {
+        this.cacheBlocks = cacheBlocks;
+        return this;
+    }
+
+    /**
+     * 编译为{@link Scan}
+     *  指定列投影时自动追加列值条件引用的列, 保证条件能在region server上生效
+     *
+     * @return {@link Scan}
+     */
+    public Scan build() {
+        Scan scan = new Scan();
+        try {
+            if (ObjectUtil.isNotNull(prefix)) {
+                Assert.isTrue(startRow == null && stopRow == null, "The 'prefix' cannot be combined with 'startRow' or 'stopRow'");
+                scan.setStartStopRowForPrefixScan(prefix);
+            } else {
+                if (ObjectUtil.isNotNull(startRow)) {
+                    scan.withStartRow(startRow, includeStartRow);
+                }
+                if (ObjectUtil.isNotNull(stopRow)) {
+                    scan.withStopRow(stopRow, includeStopRow);
+                }
+            }
+            scan.setReversed(reversed);
+
+            if (!projection.isEmpty()) {
+                predicates.forEach(predicate -> addColumn(predicate.getFamily(), predicate.getQualifier()));
+                projection.forEach((family, qualifiers) -> {
+                    if (qualifiers == null) {
+                        scan.addFamily(family);
+                    } else {
+                        qualifiers.forEach(qualifier -> scan.addColumn(family, qualifier));
+                    }
+                });
+            }
+
+            Filter filter = compileFilter();
+            if (ObjectUtil.isNotNull(filter)) {
+                scan.setFilter(filter);
+            }
+
+            if (ObjectUtil.isNotNull(minTimestamp)) {
+                scan.setTimeRange(minTimestamp, maxTimestamp);
+            }
+            scan.readVersions(versions);
+
+            int rows = ObjectUtil.defaultIfNull(caching, DEFAULT_CACHING);
+            if (limit > 0) {
+                scan.setLimit(limit);
+                rows = Math.min(rows, limit);
+                if (limit <= SMALL_SCAN_LIMIT) {
+                    scan.setReadType(Scan.ReadType.PREAD);
+                }
+            }
+            scan.setCaching(rows);
+            scan.setCacheBlocks(cacheBlocks);
+        } catch (IOException e) {
+            throw new HbaseException(e);
+        }
+        return scan;
+    }
+
+    private Filter compileFilter() {
+        List<Filter> compiled = CollectionUtil.newArrayList();
+        if (predicates.size() == 1 || FilterList.Operator.MUST_PASS_ALL.equals(predicateOperator)) {
+            compiled.addAll(predicates);
+        } else if (predicates.size() > 1) {
+            compiled.add(new FilterList(predicateOperator, new ArrayList<>(predicates)));
+        }
+        compiled.addAll(filters);
+        if (keyOnly) {
+            if (predicates.isEmpty()) {
+                compiled.add(new FirstKeyOnlyFilter());
+            }
+            compiled.add(new KeyOnlyFilter());
+        }
+        if (compiled.isEmpty()) {
+            return null;
+        }
+        return compiled.size() == 1 ? compiled.get(0) : new FilterList(FilterList.Operator.MUST_PASS_ALL, compiled);
+    }
+
+    private void addColumn(byte[] family, byte[] qualifier) {
+        if (projection.containsKey(family) && projection.get(family) == null) {
+            return;
+        }
+        projection.computeIfAbsent(family, k -> new TreeSet<>(Bytes.BYTES_COMPARATOR)).add(qualifier);
+    }
+
+    private static byte[] rowBytes(Object row, String name) {
+        Assert.notNull(row, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, name));
+        // 与实体行Key及where条件值编码一致
+        return HbaseUtils.toRowKey(row);
+    }
+
+}
@@ -0,0 +1,70 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.callback.PipelinedResultsExtractor;
+import cn.darkjrong.hbase.callback.ResultsExtractor;
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 扫描流水线
+ *  扫描器读取与行映射分离, 行映射在共享的有界线程池中执行, 适用于行映射耗CPU(如JSON解析)的查询
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Getter
+public class ScanPipeline implements Closeable {
+
+    /**
+     * 默认预读深度
+     */
+    public static final int DEFAULT_DEPTH = 256;
+
+    private final int workers;
+    private final int depth;
+    private final ExecutorService executor;
+
+    public ScanPipeline() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_DEPTH);
+    }
+
+    /**
+     * @param workers 行映射线程数
+     * @param depth   每次查询的预读深度, 已读取未输出的最大行数
+     */
+    public ScanPipeline(int workers, int depth) {
+        Assert.isTrue(workers > 0, "The given 'workers' must be greater than 0");
+        Assert.isTrue(depth > 0, "The given 'depth' must be greater than 0");
+        this.workers = workers;
+        this.depth = depth;
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-scan-pipeline-").setDaemon(Boolean.TRUE).build());
+        ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(Boolean.TRUE);
+    }
+
+    /**
+     * 创建流水线结果提取器
+     *
+     * @param rowMapper 行映射器
+     * @return {@link ResultsExtractor}<{@link List}<{@link T}>>
+     */
+    public <T> ResultsExtractor<List<T>> extractor(RowMapper<T> rowMapper) {
+        return new PipelinedResultsExtractor<>(rowMapper, executor, depth);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,89 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 扫描拆分工具
+ *  按region边界将一个{@link Scan}拆分为多个互不重叠的子扫描
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+public class ScanSplitter {
+
+    /**
+     * 按region边界拆分扫描
+     *  反向扫描及带有行数限制的扫描不拆分, 原样返回
+     *
+     * @param scan         扫描对象
+     * @param startEndKeys region开始, 结束键
+     * @return {@link List}<{@link Scan}> 按行键顺序排列的子扫描
+     */
+    public static List<Scan> split(Scan scan, Pair<byte[][], byte[][]> startEndKeys) {
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        if (scan.isReversed() || scan.getLimit() > 0
+                || startEndKeys == null || ArrayUtil.isEmpty(startEndKeys.getFirst())) {
+            return Collections.singletonList(scan);
+        }
+
+        byte[] scanStart = scan.getStartRow();
+        byte[] scanStop = scan.getStopRow();
+        byte[][] startKeys = startEndKeys.getFirst();
+        byte[][] endKeys = startEndKeys.getSecond();
+
+        List<Scan> scans = CollectionUtil.newArrayList();
+        for (int i = 0; i < startKeys.length; i++) {
+            byte[] regionStart = startKeys[i];
+            byte[] regionEnd = endKeys[i];
+
+            // 子扫描区间为扫描区间与region区间的交集
+            byte[] start = compareStart(scanStart, regionStart) >= 0 ? scanStart : regionStart;
+            // 包含结束行且结束行等于region结束键时, 该行属于下一个region
+            int stopCompare = compareStop(scanStop, regionEnd);
+            byte[] stop = stopCompare < 0 || (stopCompare == 0 && !scan.includeStopRow()) ? scanStop : regionEnd;
+            if (stop.length > 0 && Bytes.compareTo(start, stop) >= 0
+                    && !(Bytes.equals(start, stop) && stop == scanStop && scan.includeStopRow())) {
+                continue;
+            }
+
+            boolean includeStart = start != scanStart || scan.includeStartRow();
+            boolean includeStop = stop == scanStop && scan.includeStopRow();
+            try {
+                scans.add(new Scan(scan).withStartRow(start, includeStart).withStopRow(stop, includeStop));
+            } catch (IOException e) {
+                throw new HbaseException(e);
+            }
+        }
+        return scans.isEmpty() ? Collections.singletonList(scan) : scans;
+    }
+
+    /**
+     * 比较开始键, 空数组表示无下界
+     */
+    private static int compareStart(byte[] left, byte[] right) {
+        if (left.length == 0) return right.length == 0 ? 0 : -1;
+        if (right.length == 0) return 1;
+        return Bytes.compareTo(left, right);
+    }
+
+    /**
+     * 比较结束键, 空数组表示无上界
+     */
+    private static int compareStop(byte[] left, byte[] right) {
+        if (left.length == 0) return right.length == 0 ? 0 : 1;
+        if (right.length == 0) return -1;
+        return Bytes.compareTo(left, right);
+    }
+
+}
@@ -0,0 +1,201 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.client.coprocessor.BigDecimalColumnInterpreter;
+import org.apache.hadoop.hbase.client.coprocessor.DoubleColumnInterpreter;
+import org.apache.hadoop.hbase.client.coprocessor.LongColumnInterpreter;
+import org.apache.hadoop.hbase.coprocessor.ColumnInterpreter;
+import org.springframework.util.ClassUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 聚合协处理器端点
+ *  classpath中存在hbase-endpoint且表加载了{@code AggregateImplementation}协处理器时, 由region server计算行数及求和, 最小值, 最大值, 不传输行数据;
+ *  列值按HBase {@code Bytes}大端序解码, 与{@link HbaseUtils#toBytes(Object)}写入的编码一致, 支持的列类型见{@link #supports(Class)};
+ *  hbase-endpoint为可选依赖, 通过反射调用{@code AggregationClient}; 使用无参构造及基于{@link Table}的方法,
+ *  请求经由调用方的共享连接发出, 不另建连接
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class AggregationEndpoint implements Closeable {
+
+    public static final String CLIENT_CLASS = "org.apache.hadoop.hbase.client.coprocessor.AggregationClient";
+
+    public static final String IMPLEMENTATION_CLASS = "org.apache.hadoop.hbase.coprocessor.AggregateImplementation";
+
+    /**
+     * 全局加载的region协处理器配置项
+     */
+    private static final String REGION_COPROCESSOR_CONF_KEY = "hbase.coprocessor.region.classes";
+
+    private final Connection connection;
+    private final Map<String, Boolean> deployed = new ConcurrentHashMap<>();
+    /**
+     * 列解释器, key: 列值类型
+     */
+    private static final Map<Class<?>, Supplier<ColumnInterpreter<?, ?, ?, ?, ?>>> INTERPRETERS = new HashMap<>();
+
+    static {
+        INTERPRETERS.put(Long.class, LongColumnInterpreter::new);
+        INTERPRETERS.put(Double.class, DoubleColumnInterpreter::new);
+        INTERPRETERS.put(BigDecimal.class, BigDecimalColumnInterpreter::new);
+    }
+
+    private final Map<String, Method> methods = new ConcurrentHashMap<>();
+    private volatile Class<?> clientClass;
+    private volatile Closeable client;
+
+    public AggregationEndpoint(Connection connection) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        this.connection = connection;
+    }
+
+    /**
+     * 表是否加载了聚合协处理器, 结果按表缓存
+     *
+     * @param tableName 表名
+     * @return boolean
+     */
+    public boolean isDeployed(String tableName) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        return deployed.computeIfAbsent(tableName, this::loadDeployed);
+    }
+
+    /**
+     * 列值类型是否支持协处理器求和, 最小值, 最大值
+     *  HBase只提供8字节Long, Double及BigDecimal的列解释器, 其余类型需在客户端计算
+     *
+     * @param type 列值类型
+     * @return boolean
+     */
+    public static boolean supports(Class<?> type) {
+        return ObjectUtil.isNotNull(type) && INTERPRETERS.containsKey(BasicType.wrap(type));
+    }
+
+    /**
+     * 协处理器计算行数
+     *
+     * @param table 表
+     * @param scan  查询对象
+     * @return 行数
+     * @throws IOException 调用失败
+     */
+    public long rowCount(Table table, Scan scan) throws IOException {
+        Long count = invoke("rowCount", table, Long.class, scan);
+        return ObjectUtil.isNull(count) ? 0L : count;
+    }
+
+    /**
+     * 协处理器求和, 查询对象须只包含一个列
+     *
+     * @param table 表
+     * @param type  列值类型
+     * @param scan  查询对象
+     * @return 和, 无值返回null
+     * @throws IOException 调用失败
+     */
+    public <N> N sum(Table table, Class<N> type, Scan scan) throws IOException {
+        return invoke("sum", table, type, scan);
+    }
+
+    /**
+     * 协处理器计算最小值, 查询对象须只包含一个列
+     *
+     * @param table 表
+     * @param type  列值类型
+     * @param scan  查询对象
+     * @return 最小值, 无值返回null
+     * @throws IOException 调用失败
+     */
+    public <N> N min(Table table, Class<N> type, Scan scan) throws IOException {
+        return invoke("min", table, type, scan);
+    }
+
+    /**
+     * 协处理器计算最大值, 查询对象须只包含一个列
+     *
+     * @param table 表
+     * @param type  列值类型
+     * @param scan  查询对象
+     * @return 最大值, 无值返回null
+     * @throws IOException 调用失败
+     */
+    public <N> N max(Table table, Class<N> type, Scan scan) throws IOException {
+        return invoke("max", table, type, scan);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ObjectUtil.isNotNull(client)) {
+            client.close();
+        }
+    }
+
+    private boolean loadDeployed(String tableName) {
+        String[] global = connection.getConfiguration().getStrings(REGION_COPROCESSOR_CONF_KEY);
+        if (ArrayUtil.contains(global, IMPLEMENTATION_CLASS)) {
+            return Boolean.TRUE;
+        }
+        try (Table table = connection.getTable(TableName.valueOf(tableName))) {
+            return table.getDescriptor().hasCoprocessor(IMPLEMENTATION_CLASS);
+        } catch (IOException e) {
+            log.warn("check aggregation coprocessor of {} failed: {}", tableName, e.getMessage());
+            return Boolean.FALSE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <N> N invoke(String name, Table table, Class<?> type, Scan scan) throws IOException {
+        Assert.notNull(table, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "table"));
+        Assert.notNull(scan, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "scan"));
+        Assert.isTrue(supports(type), "Unsupported aggregation column type {}", type);
+        try {
+            Method method = method(name);
+            return (N) method.invoke(client, table, INTERPRETERS.get(BasicType.wrap(type)).get(), scan);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private Method method(String name) throws ReflectiveOperationException {
+        if (ObjectUtil.isNull(client)) {
+            synchronized (this) {
+                if (ObjectUtil.isNull(client)) {
+                    clientClass = ClassUtils.forName(CLIENT_CLASS, AggregationEndpoint.class.getClassLoader());
+                    client = (Closeable) clientClass.getConstructor().newInstance();
+                }
+            }
+        }
+        Method method = methods.get(name);
+        if (ObjectUtil.isNull(method)) {
+            method = clientClass.getMethod(name, Table.class, ColumnInterpreter.class, Scan.class);
+            methods.put(name, method);
+        }
+        return method;
+    }
+
+}
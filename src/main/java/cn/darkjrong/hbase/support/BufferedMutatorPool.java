@@ -0,0 +1,291 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.darkjrong.hbase.metrics.HbaseMetrics;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BufferedMutator 池
+ *  每张表持有一个长生命周期的 {@link BufferedMutator}(线程安全), 写缓冲区满或到达刷新周期时自动提交,
+ *  容器关闭时统一刷新并释放. 缓冲区大小及周期刷新由池自行统计和触发, 以便记录每次刷新(手动, 缓冲区满, 周期)的耗时
+ *
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Slf4j
+public class BufferedMutatorPool implements Closeable {
+
+    /**
+     * 默认写缓冲区大小, 3M
+     */
+    public static final long DEFAULT_WRITE_BUFFER_SIZE = 3 * 1024 * 1024;
+
+    /**
+     * 默认周期刷新时间, 1秒
+     */
+    public static final long DEFAULT_PERIODIC_FLUSH_TIMEOUT_MS = 1000L;
+
+    /**
+     * 周期刷新检查间隔上限, 1秒
+     */
+    private static final long MAX_PERIODIC_FLUSH_TICK_MS = 1000L;
+
+    private final Connection connection;
+    private final long writeBufferSize;
+    private final long periodicFlushTimeoutMs;
+    private final ConcurrentMap<TableName, PooledMutator> mutators = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed = Boolean.FALSE;
+
+    /**
+     * 指标记录
+     */
+    @Setter
+    private HbaseMetrics metrics = HbaseMetrics.NOOP;
+
+    public BufferedMutatorPool(Connection connection) {
+        this(connection, DEFAULT_WRITE_BUFFER_SIZE, DEFAULT_PERIODIC_FLUSH_TIMEOUT_MS);
+    }
+
+    /**
+     * @param connection             连接
+     * @param writeBufferSize        写缓冲区大小(字节), 超过后自动提交
+     * @param periodicFlushTimeoutMs 周期刷新时间(毫秒), 缓冲区中最早的数据超过该时间后自动提交, <= 0 不开启
+     */
+    public BufferedMutatorPool(Connection connection, long writeBufferSize, long periodicFlushTimeoutMs) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.isTrue(writeBufferSize > 0, "The given 'writeBufferSize' must be greater than 0");
+        this.connection = connection;
+        this.writeBufferSize = writeBufferSize;
+        this.periodicFlushTimeoutMs = periodicFlushTimeoutMs;
+        if (periodicFlushTimeoutMs > 0) {
+            long tick = Math.max(BufferedMutator.MIN_WRITE_BUFFER_PERIODIC_FLUSH_TIMERTICK_MS, Math.min(periodicFlushTimeoutMs, MAX_PERIODIC_FLUSH_TICK_MS));
+            this.flusher = Executors.newSingleThreadScheduledExecutor(
+                    ThreadFactoryBuilder.create().setNamePrefix("hbase-mutator-flush-").setDaemon(Boolean.TRUE).build());
+            this.flusher.scheduleWithFixedDelay(() -> mutators.values().forEach(PooledMutator::periodicFlush), tick, tick, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * 获取表的mutator, 不存在时创建
+     *
+     * @param tableName 表名
+     * @return {@link BufferedMutator}
+     * @throws HbaseException hbase异常
+     */
+    public BufferedMutator getMutator(String tableName) throws HbaseException {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        if (closed) {
+            throw new HbaseException("BufferedMutatorPool is closed");
+        }
+        return mutators.computeIfAbsent(TableName.valueOf(tableName), this::createMutator);
+    }
+
+    /**
+     * 刷新表缓冲区中的数据
+     *
+     * @param tableName 表名
+     * @throws HbaseException hbase异常
+     */
+    public void flush(String tableName) throws HbaseException {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        BufferedMutator mutator = mutators.get(TableName.valueOf(tableName));
+        if (mutator != null) {
+            try {
+                mutator.flush();
+            } catch (IOException e) {
+                log.error("flush", e);
+                throw new HbaseException(e);
+            }
+        }
+    }
+
+    /**
+     * 注册表下一次刷新完成后执行的动作, 如写入后的缓存失效
+     *  应在提交写入之后注册, 保证执行动作的那次刷新包含该写入; 刷新失败时同样执行
+     *
+     * @param tableName 表名
+     * @param action    动作
+     * @throws HbaseException hbase异常
+     */
+    public void afterFlush(String tableName, Runnable action) throws HbaseException {
+        Assert.notNull(action, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "action"));
+        ((PooledMutator) getMutator(tableName)).flushActions.add(action);
+    }
+
+    /**
+     * 刷新所有表缓冲区中的数据
+     *
+     * @throws HbaseException hbase异常
+     */
+    public void flush() throws HbaseException {
+        mutators.keySet().forEach(a -> flush(a.getNameAsString()));
+    }
+
+    /**
+     * 刷新并关闭所有mutator
+     */
+    @Override
+    public void close() {
+        closed = Boolean.TRUE;
+        if (ObjectUtil.isNotNull(flusher)) {
+            flusher.shutdownNow();
+        }
+        mutators.values().forEach(HbaseUtils::close);
+        mutators.clear();
+    }
+
+    private PooledMutator createMutator(TableName tableName) {
+        // 缓冲区满及周期刷新由池触发, 底层mutator只在显式刷新时提交
+        BufferedMutatorParams mutatorParams = new BufferedMutatorParams(tableName)
+                .writeBufferSize(Long.MAX_VALUE)
+                .listener((e, mutator) -> {
+                    for (int i = 0; i < e.getNumExceptions(); i++) {
+                        log.error("hbase mutator写入失败, table: {}, row: {}", tableName.getNameAsString(),
+                                Bytes.toStringBinary(e.getRow(i).getRow()), e.getCause(i));
+                    }
+                    throw e;
+                });
+        try {
+            PooledMutator mutator = new PooledMutator(connection.getBufferedMutator(mutatorParams));
+            metrics.bindMutatorBuffer(tableName.getNameAsString(), mutator.buffered::get);
+            return mutator;
+        } catch (IOException e) {
+            log.error("getBufferedMutator", e);
+            throw new HbaseException(e);
+        }
+    }
+
+    /**
+     * 池化的mutator
+     *  按{@link Mutation#heapSize()}统计缓冲区大小, 超过写缓冲区大小或最早的数据超过周期刷新时间后刷新, 每次刷新记录耗时
+     */
+    private class PooledMutator implements BufferedMutator {
+
+        private final BufferedMutator delegate;
+        private final String tableName;
+        private final AtomicLong buffered = new AtomicLong();
+        private final Queue<Runnable> flushActions = new ConcurrentLinkedQueue<>();
+        private volatile long firstBufferedAt;
+
+        private PooledMutator(BufferedMutator delegate) {
+            this.delegate = delegate;
+            this.tableName = delegate.getName().getNameAsString();
+        }
+
+        @Override
+        public TableName getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return delegate.getConfiguration();
+        }
+
+        @Override
+        public void mutate(Mutation mutation) throws IOException {
+            mutate(Collections.singletonList(mutation));
+        }
+
+        @Override
+        public void mutate(List<? extends Mutation> mutations) throws IOException {
+            long size = 0;
+            for (Mutation mutation : mutations) {
+                size += mutation.heapSize();
+            }
+            delegate.mutate(mutations);
+            if (buffered.getAndAdd(size) == 0) {
+                firstBufferedAt = System.currentTimeMillis();
+            }
+            if (buffered.get() >= writeBufferSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // 只执行刷新开始前注册的动作, 之后注册的动作对应的写入可能不在本次刷新中
+            List<Runnable> actions = new ArrayList<>();
+            for (Runnable action = flushActions.poll(); ObjectUtil.isNotNull(action); action = flushActions.poll()) {
+                actions.add(action);
+            }
+            buffered.set(0);
+            long start = System.nanoTime();
+            boolean success = Boolean.FALSE;
+            try {
+                delegate.flush();
+                success = Boolean.TRUE;
+            } finally {
+                metrics.recordOperation(tableName, "flush", System.nanoTime() - start, success);
+                actions.forEach(Runnable::run);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                delegate.close();
+            }
+        }
+
+        @Override
+        public long getWriteBufferSize() {
+            return writeBufferSize;
+        }
+
+        @Override
+        public long getWriteBufferPeriodicFlushTimeoutMs() {
+            return periodicFlushTimeoutMs;
+        }
+
+        @Override
+        public void setRpcTimeout(int timeout) {
+            delegate.setRpcTimeout(timeout);
+        }
+
+        @Override
+        public void setOperationTimeout(int timeout) {
+            delegate.setOperationTimeout(timeout);
+        }
+
+        private void periodicFlush() {
+            if (buffered.get() == 0 || System.currentTimeMillis() - firstBufferedAt < periodicFlushTimeoutMs) {
+                return;
+            }
+            try {
+                flush();
+            } catch (IOException | RuntimeException e) {
+                log.error("periodicFlush", e);
+            }
+        }
+
+    }
+
+}
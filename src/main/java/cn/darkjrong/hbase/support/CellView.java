@@ -0,0 +1,318 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link Result} 访问视图
+ *  在原始单元格上按列族, 字段名二分查找最新版本, 直接从单元格底层数组解码, 查找与解码均不复制数组;
+ *  热点路径建议使用 byte[] 参数的重载, 避免每次编码列名. 列不存在时返回null
+ *
+ *  <pre>
+ *  CellView view = CellView.of(result);
+ *  Long age = view.getLong(FAMILY, AGE);
+ *  </pre>
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class CellView {
+
+    private final Result result;
+
+    private CellView(Result result) {
+        this.result = result;
+    }
+
+    /**
+     * 创建视图
+     *
+     * @param result 结果
+     * @return {@link CellView}
+     */
+    public static CellView of(Result result) {
+        // 每行调用, 异常信息延迟生成
+        Assert.notNull(result, () -> new IllegalArgumentException(HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "result")));
+        return new CellView(result);
+    }
+
+    /**
+     * 获取结果
+     *
+     * @return {@link Result}
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    /**
+     * 获取行Key
+     *
+     * @return {@link String}
+     */
+    public String getRow() {
+        return Bytes.toString(result.getRow());
+    }
+
+    /**
+     * 获取最新版本单元格
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Cell}
+     */
+    public Cell getCell(byte[] family, byte[] qualifier) {
+        Cell[] cells = result.rawCells();
+        if (cells == null) {
+            return null;
+        }
+        // 单元格按列族, 字段名升序, 同列按时间戳降序, 查找第一个不小于目标列的单元格即为最新版本
+        int low = 0;
+        int high = cells.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compareColumn(cells[mid], family, qualifier) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low < cells.length && compareColumn(cells[low], family, qualifier) == 0 ? cells[low] : null;
+    }
+
+    /**
+     * 是否包含列
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return boolean
+     */
+    public boolean contains(byte[] family, byte[] qualifier) {
+        return getCell(family, qualifier) != null;
+    }
+
+    /**
+     * 获取值
+     *
+     * @param tClass    t类
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link T}
+     */
+    public <T> T get(Class<T> tClass, byte[] family, byte[] qualifier) {
+        return HbaseUtils.getValue(tClass, getCell(family, qualifier));
+    }
+
+    /**
+     * 获取值
+     *
+     * @param tClass    t类
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link T}
+     */
+    public <T> T get(Class<T> tClass, String family, String qualifier) {
+        return get(tClass, Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取字符串值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link String}
+     */
+    public String getString(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toString(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    /**
+     * 获取字符串值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link String}
+     */
+    public String getString(String family, String qualifier) {
+        return getString(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取int值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Integer}
+     */
+    public Integer getInt(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toInt(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    /**
+     * 获取int值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Integer}
+     */
+    public Integer getInt(String family, String qualifier) {
+        return getInt(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取long值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Long}
+     */
+    public Long getLong(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toLong(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    /**
+     * 获取long值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Long}
+     */
+    public Long getLong(String family, String qualifier) {
+        return getLong(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取short值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Short}
+     */
+    public Short getShort(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toShort(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    /**
+     * 获取short值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Short}
+     */
+    public Short getShort(String family, String qualifier) {
+        return getShort(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取double值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Double}
+     */
+    public Double getDouble(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toDouble(cell.getValueArray(), cell.getValueOffset());
+    }
+
+    /**
+     * 获取double值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Double}
+     */
+    public Double getDouble(String family, String qualifier) {
+        return getDouble(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取float值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Float}
+     */
+    public Float getFloat(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toFloat(cell.getValueArray(), cell.getValueOffset());
+    }
+
+    /**
+     * 获取float值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Float}
+     */
+    public Float getFloat(String family, String qualifier) {
+        return getFloat(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取boolean值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Boolean}
+     */
+    public Boolean getBoolean(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : cell.getValueArray()[cell.getValueOffset()] != 0;
+    }
+
+    /**
+     * 获取boolean值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link Boolean}
+     */
+    public Boolean getBoolean(String family, String qualifier) {
+        return getBoolean(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    /**
+     * 获取BigDecimal值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link BigDecimal}
+     */
+    public BigDecimal getBigDecimal(byte[] family, byte[] qualifier) {
+        Cell cell = getCell(family, qualifier);
+        return cell == null ? null : Bytes.toBigDecimal(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    /**
+     * 获取BigDecimal值
+     *
+     * @param family    列族
+     * @param qualifier 字段名
+     * @return {@link BigDecimal}
+     */
+    public BigDecimal getBigDecimal(String family, String qualifier) {
+        return getBigDecimal(Bytes.toBytes(family), Bytes.toBytes(qualifier));
+    }
+
+    private static int compareColumn(Cell cell, byte[] family, byte[] qualifier) {
+        int compare = Bytes.compareTo(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength(),
+                family, 0, family.length);
+        if (compare != 0) {
+            return compare;
+        }
+        return Bytes.compareTo(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength(),
+                qualifier, 0, qualifier.length);
+    }
+
+}
@@ -0,0 +1,292 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.HRegionLocation;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionInfo;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 集群元数据索引
+ *  按表缓存 region名称->{@link RegionInfo}, region->服务 映射, 按服务缓存其上的region, 查询为内存读取;
+ *  首次查询某个表(或服务)时只加载该表的region位置, 不扫描其他表.
+ *  超过刷新间隔后由首个读取线程重新加载, 加载期间其他线程读取旧数据. 表或region变更后可调用{@link #invalidate()}立即失效
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class ClusterMetadataIndex {
+
+    /**
+     * 默认刷新间隔, 60秒
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(60);
+
+    private static final Pattern ALL_TABLES = Pattern.compile(".*");
+
+    private final Connection connection;
+    private final long refreshIntervalMs;
+    private final Cached<List<TableName>> tableNames;
+    private final Map<String, Cached<TableMetadata>> tables = new ConcurrentHashMap<>();
+    private final Map<String, Cached<List<RegionInfo>>> servers = new ConcurrentHashMap<>();
+
+    public ClusterMetadataIndex(Connection connection) {
+        this(connection, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * @param connection      连接
+     * @param refreshInterval 刷新间隔
+     */
+    public ClusterMetadataIndex(Connection connection, Duration refreshInterval) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.notNull(refreshInterval, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "refreshInterval"));
+        this.connection = connection;
+        this.refreshIntervalMs = refreshInterval.toMillis();
+        this.tableNames = new Cached<>("tables", this::loadTableNames);
+    }
+
+    /**
+     * 获取region
+     *
+     * @param regionName region名称
+     * @return {@link RegionInfo}, 不存在返回null
+     */
+    public RegionInfo getRegion(String regionName) {
+        TableMetadata table = tableOfRegion(regionName);
+        return ObjectUtil.isNull(table) ? null : table.regions.get(regionName);
+    }
+
+    /**
+     * 获取region所在服务
+     *
+     * @param regionName region名称
+     * @return {@link ServerName}, 不存在或未分配返回null
+     */
+    public ServerName getServer(String regionName) {
+        TableMetadata table = tableOfRegion(regionName);
+        return ObjectUtil.isNull(table) ? null : table.regionServers.get(regionName);
+    }
+
+    /**
+     * 获取表的region
+     *
+     * @param tableName 表名
+     * @return {@link List}<{@link RegionInfo}>
+     */
+    public List<RegionInfo> getRegionsByTable(String tableName) {
+        return table(tableName).tableRegions;
+    }
+
+    /**
+     * 获取服务上的region
+     *
+     * @param serverName 服务名
+     * @return {@link List}<{@link RegionInfo}>
+     */
+    public List<RegionInfo> getRegionsByServer(String serverName) {
+        ServerName server;
+        try {
+            server = ServerName.valueOf(serverName);
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+        return servers.computeIfAbsent(serverName,
+                a -> new Cached<>(serverName, admin -> Collections.unmodifiableList(admin.getRegions(server)))).get();
+    }
+
+    /**
+     * 获取表名
+     *
+     * @param tableName 表名
+     * @return {@link TableName}, 不存在返回null
+     */
+    public TableName getTableName(String tableName) {
+        return table(tableName).tableName;
+    }
+
+    /**
+     * 获取所有表名, 只列出表名, 不加载region
+     *
+     * @return {@link Collection}<{@link TableName}>
+     */
+    public Collection<TableName> getTableNames() {
+        return tableNames.get();
+    }
+
+    /**
+     * 失效, 下次读取时重新加载
+     */
+    public void invalidate() {
+        tableNames.invalidate();
+        tables.clear();
+        servers.clear();
+    }
+
+    /**
+     * 立即重新加载已缓存的表及服务
+     *
+     * @throws HbaseException hbase异常
+     */
+    public void refresh() throws HbaseException {
+        tableNames.refresh();
+        tables.values().forEach(Cached::refresh);
+        servers.values().forEach(Cached::refresh);
+    }
+
+    private TableMetadata table(String tableName) {
+        if (ObjectUtil.isNull(tableName)) {
+            return TableMetadata.ABSENT;
+        }
+        TableName name;
+        try {
+            name = TableName.valueOf(tableName);
+        } catch (IllegalArgumentException e) {
+            return TableMetadata.ABSENT;
+        }
+        return tables.computeIfAbsent(tableName, a -> new Cached<>(tableName, admin -> loadTable(admin, name))).get();
+    }
+
+    /**
+     * region名称以表名开头, 只加载该表
+     */
+    private TableMetadata tableOfRegion(String regionName) {
+        if (ObjectUtil.isNull(regionName)) {
+            return null;
+        }
+        try {
+            return table(RegionInfo.getTable(Bytes.toBytesBinary(regionName)).getNameAsString());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private List<TableName> loadTableNames(Admin admin) throws IOException {
+        return Collections.unmodifiableList(Arrays.asList(admin.listTableNames(ALL_TABLES, Boolean.TRUE)));
+    }
+
+    private TableMetadata loadTable(Admin admin, TableName tableName) throws IOException {
+        if (!admin.tableExists(tableName)) {
+            return TableMetadata.ABSENT;
+        }
+        TableMetadata loaded = new TableMetadata(tableName);
+        List<RegionInfo> tableRegions = new ArrayList<>();
+        try (RegionLocator locator = connection.getRegionLocator(tableName)) {
+            for (HRegionLocation location : locator.getAllRegionLocations()) {
+                RegionInfo region = location.getRegion();
+                String regionName = region.getRegionNameAsString();
+                tableRegions.add(region);
+                loaded.regions.put(regionName, region);
+                if (ObjectUtil.isNotNull(location.getServerName())) {
+                    loaded.regionServers.put(regionName, location.getServerName());
+                }
+            }
+        }
+        loaded.tableRegions = Collections.unmodifiableList(tableRegions);
+        return loaded;
+    }
+
+    @FunctionalInterface
+    private interface Loader<T> {
+
+        T load(Admin admin) throws IOException;
+
+    }
+
+    /**
+     * 按刷新间隔重新加载的缓存项
+     */
+    private class Cached<T> {
+
+        private final String name;
+        private final Loader<T> loader;
+        private final AtomicBoolean refreshing = new AtomicBoolean(Boolean.FALSE);
+        private volatile T value;
+        private volatile long loadedAt;
+
+        private Cached(String name, Loader<T> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        private T get() {
+            T current = value;
+            if (ObjectUtil.isNull(current)) {
+                synchronized (this) {
+                    if (ObjectUtil.isNull(value)) {
+                        reload();
+                    }
+                    return value;
+                }
+            }
+            if (System.currentTimeMillis() - loadedAt >= refreshIntervalMs && refreshing.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                try {
+                    reload();
+                    return value;
+                } catch (HbaseException e) {
+                    log.warn("hbase metadata of {} refresh failed, keep previous snapshot: {}", name, e.getMessage());
+                } finally {
+                    refreshing.set(Boolean.FALSE);
+                }
+            }
+            return current;
+        }
+
+        private void reload() {
+            long start = System.currentTimeMillis();
+            try (Admin admin = connection.getAdmin()) {
+                T loaded = loader.load(admin);
+                loadedAt = start;
+                value = loaded;
+            } catch (IOException e) {
+                log.error("load", e);
+                throw new HbaseException(e);
+            }
+            log.debug("hbase metadata of {} loaded in {} ms", name, System.currentTimeMillis() - start);
+        }
+
+        /**
+         * 已加载时重新加载
+         */
+        private void refresh() {
+            if (ObjectUtil.isNotNull(value)) {
+                reload();
+            }
+        }
+
+        private void invalidate() {
+            value = null;
+        }
+    }
+
+    private static class TableMetadata {
+
+        private static final TableMetadata ABSENT = new TableMetadata(null);
+
+        private final TableName tableName;
+        private final Map<String, RegionInfo> regions = new HashMap<>();
+        private final Map<String, ServerName> regionServers = new HashMap<>();
+        private List<RegionInfo> tableRegions = Collections.emptyList();
+
+        private TableMetadata(TableName tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.darkjrong.hbase.metrics.HbaseMetrics;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 单行读取合并批处理
+ *  同一张表在时间窗口内到达的单行读取合并为一次{@link Table#get(List)}, 由客户端按region server分组发送,
+ *  结果按顺序分发给各调用方, 单行失败只影响该行的调用方. 窗口内请求数达到上限时由最后到达的调用方立即发送;
+ *  到期的批次由固定大小的线程池发送, 等待队列满时由定时线程直接发送
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+@Getter
+public class GetBatcher implements Closeable {
+
+    /**
+     * 默认时间窗口, 500微秒
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofNanos(500_000L);
+
+    /**
+     * 默认单批最大请求数
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    /**
+     * 默认发送等待队列长度
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final Connection connection;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int dispatchThreads;
+    private final int queueCapacity;
+    private final ConcurrentMap<TableName, TableBatcher> batchers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+    private volatile boolean closed = Boolean.FALSE;
+
+    /**
+     * 指标记录
+     */
+    @Setter
+    private HbaseMetrics metrics = HbaseMetrics.NOOP;
+
+    public GetBatcher(Connection connection) {
+        this(connection, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param connection   连接
+     * @param window       时间窗口, 自批次中首个请求到达起计算
+     * @param maxBatchSize 单批最大请求数
+     */
+    public GetBatcher(Connection connection, Duration window, int maxBatchSize) {
+        this(connection, window, maxBatchSize, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param connection      连接
+     * @param window          时间窗口, 自批次中首个请求到达起计算
+     * @param maxBatchSize    单批最大请求数
+     * @param dispatchThreads 发送线程数
+     * @param queueCapacity   发送等待队列长度, 队列满时由定时线程直接发送
+     */
+    public GetBatcher(Connection connection, Duration window, int maxBatchSize, int dispatchThreads, int queueCapacity) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.notNull(window, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "window"));
+        Assert.isTrue(!window.isNegative() && !window.isZero(), "The given 'window' must be greater than 0");
+        Assert.isTrue(maxBatchSize > 0, "The given 'maxBatchSize' must be greater than 0");
+        Assert.isTrue(dispatchThreads > 0, "The given 'dispatchThreads' must be greater than 0");
+        Assert.isTrue(queueCapacity > 0, "The given 'queueCapacity' must be greater than 0");
+        this.connection = connection;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.dispatchThreads = dispatchThreads;
+        this.queueCapacity = queueCapacity;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-get-batch-timer-").setDaemon(Boolean.TRUE).build());
+        // 队列满时由提交线程发送, 关闭后拒绝, 由调用方以关闭异常结束批次
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-get-batch-").setDaemon(Boolean.TRUE).build(),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("GetBatcher is closed");
+                    }
+                    task.run();
+                });
+        ((ThreadPoolExecutor) dispatcher).allowCoreThreadTimeOut(Boolean.TRUE);
+    }
+
+    /**
+     * 读取单行, 等待所在批次完成
+     *
+     * @param tableName 表名
+     * @param get       查询对象
+     * @return {@link Result}
+     * @throws HbaseException hbase异常
+     */
+    public Result get(String tableName, Get get) throws HbaseException {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(get, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "get"));
+        return await(batchers.computeIfAbsent(TableName.valueOf(tableName), TableBatcher::new).submit(get));
+    }
+
+    /**
+     * 关闭, 未发送的批次以异常结束, 之后的读取立即失败
+     */
+    @Override
+    public void close() {
+        closed = Boolean.TRUE;
+        timer.shutdownNow();
+        dispatcher.shutdown();
+        batchers.values().forEach(TableBatcher::abort);
+    }
+
+    private static Result await(CompletableFuture<Result> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = ObjectUtil.isNull(e.getCause()) ? e : e.getCause();
+            throw cause instanceof HbaseException ? (HbaseException) cause : new HbaseException(cause);
+        }
+    }
+
+    /**
+     * 单表批处理
+     */
+    private class TableBatcher {
+
+        private final TableName tableName;
+        private Batch current;
+
+        TableBatcher(TableName tableName) {
+            this.tableName = tableName;
+        }
+
+        CompletableFuture<Result> submit(Get get) {
+            Batch batch;
+            CompletableFuture<Result> future = new CompletableFuture<>();
+            boolean full;
+            synchronized (this) {
+                if (closed) {
+                    future.completeExceptionally(closedException());
+                    return future;
+                }
+                if (ObjectUtil.isNull(current)) {
+                    Batch scheduled = new Batch();
+                    try {
+                        timer.schedule(() -> expire(scheduled), windowNanos, TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        future.completeExceptionally(closedException());
+                        return future;
+                    }
+                    current = scheduled;
+                }
+                batch = current;
+                batch.gets.add(get);
+                batch.futures.add(future);
+                full = batch.gets.size() >= maxBatchSize;
+                if (full) {
+                    current = null;
+                }
+            }
+            if (full) {
+                dispatch(batch);
+            }
+            return future;
+        }
+
+        private void expire(Batch batch) {
+            synchronized (this) {
+                if (current != batch) {
+                    return;
+                }
+                current = null;
+            }
+            try {
+                dispatcher.execute(() -> dispatch(batch));
+            } catch (RejectedExecutionException e) {
+                batch.fail(closedException());
+            }
+        }
+
+        /**
+         * 结束未发送的批次
+         */
+        private void abort() {
+            Batch batch;
+            synchronized (this) {
+                batch = current;
+                current = null;
+            }
+            if (ObjectUtil.isNotNull(batch)) {
+                batch.fail(closedException());
+            }
+        }
+
+        /**
+         * 发送批次, 通过{@link Table#batch(List, Object[])}逐行取得结果或异常, 失败的行不影响同批其他行
+         */
+        private void dispatch(Batch batch) {
+            long start = System.nanoTime();
+            boolean success = Boolean.FALSE;
+            Object[] results = new Object[batch.gets.size()];
+            Throwable failure = null;
+            try (Table table = connection.getTable(tableName)) {
+                table.batch(batch.gets, results);
+                success = Boolean.TRUE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                metrics.recordOperation(tableName.getNameAsString(), "batchGet", System.nanoTime() - start, success);
+            }
+            if (ObjectUtil.isNotNull(failure)) {
+                log.error("batchGet", failure);
+            }
+            for (int i = 0; i < results.length; i++) {
+                Object result = results[i];
+                if (result instanceof Result) {
+                    batch.futures.get(i).complete((Result) result);
+                } else if (result instanceof Throwable) {
+                    batch.futures.get(i).completeExceptionally((Throwable) result);
+                } else {
+                    batch.futures.get(i).completeExceptionally(ObjectUtil.isNull(failure)
+                            ? new HbaseException("No result returned for row") : failure);
+                }
+            }
+        }
+    }
+
+    private static HbaseException closedException() {
+        return new HbaseException("GetBatcher is closed");
+    }
+
+    /**
+     * 批次
+     */
+    private static class Batch {
+
+        private final List<Get> gets = new ArrayList<>();
+        private final List<CompletableFuture<Result>> futures = new ArrayList<>();
+
+        void fail(Throwable throwable) {
+            futures.forEach(a -> a.completeExceptionally(throwable));
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 延迟连接
+ *  创建后立即在后台线程连接hbase, 不阻塞应用启动; 首次使用时若连接尚未建立则等待其完成.
+ *  后台连接失败时, 下次使用会重新同步连接
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class LazyConnection implements Connection {
+
+    private final Configuration configuration;
+    private volatile CompletableFuture<Connection> connection;
+    private volatile boolean closed = Boolean.FALSE;
+
+    public LazyConnection(Configuration configuration) {
+        Assert.notNull(configuration, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "configuration"));
+        this.configuration = configuration;
+        this.connection = CompletableFuture.supplyAsync(this::connect, runnable -> {
+            Thread thread = new Thread(runnable, "hbase-lazy-connect");
+            thread.setDaemon(Boolean.TRUE);
+            thread.start();
+        });
+    }
+
+    /**
+     * 是否已建立连接
+     *
+     * @return boolean
+     */
+    public boolean isConnected() {
+        CompletableFuture<Connection> current = connection;
+        return current.isDone() && !current.isCompletedExceptionally();
+    }
+
+    /**
+     * 获取实际连接, 未建立时等待
+     *
+     * @return {@link Connection}
+     * @throws HbaseException hbase异常
+     */
+    public Connection getDelegate() throws HbaseException {
+        if (closed) {
+            throw new HbaseException("Connection is closed");
+        }
+        CompletableFuture<Connection> current = connection;
+        if (current.isCompletedExceptionally()) {
+            synchronized (this) {
+                if (connection == current) {
+                    connection = CompletableFuture.completedFuture(connect());
+                }
+                current = connection;
+            }
+        }
+        try {
+            return current.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof HbaseException ? (HbaseException) e.getCause() : new HbaseException(e.getCause());
+        }
+    }
+
+    private Connection connect() {
+        long start = System.currentTimeMillis();
+        try {
+            Connection delegate = ConnectionFactory.createConnection(configuration);
+            log.info("hbase connection established in {} ms", System.currentTimeMillis() - start);
+            return delegate;
+        } catch (IOException e) {
+            log.error("connect", e);
+            throw new HbaseException(e);
+        }
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public Table getTable(TableName tableName) throws IOException {
+        return getDelegate().getTable(tableName);
+    }
+
+    @Override
+    public Table getTable(TableName tableName, ExecutorService pool) throws IOException {
+        return getDelegate().getTable(tableName, pool);
+    }
+
+    @Override
+    public BufferedMutator getBufferedMutator(TableName tableName) throws IOException {
+        return getDelegate().getBufferedMutator(tableName);
+    }
+
+    @Override
+    public BufferedMutator getBufferedMutator(BufferedMutatorParams params) throws IOException {
+        return getDelegate().getBufferedMutator(params);
+    }
+
+    @Override
+    public RegionLocator getRegionLocator(TableName tableName) throws IOException {
+        return getDelegate().getRegionLocator(tableName);
+    }
+
+    @Override
+    public void clearRegionLocationCache() {
+        if (isConnected()) {
+            connection.join().clearRegionLocationCache();
+        }
+    }
+
+    @Override
+    public Admin getAdmin() throws IOException {
+        return getDelegate().getAdmin();
+    }
+
+    @Override
+    public TableBuilder getTableBuilder(TableName tableName, ExecutorService pool) {
+        return getDelegate().getTableBuilder(tableName, pool);
+    }
+
+    @Override
+    public String getClusterId() {
+        return getDelegate().getClusterId();
+    }
+
+    @Override
+    public Hbck getHbck() throws IOException {
+        return getDelegate().getHbck();
+    }
+
+    @Override
+    public Hbck getHbck(ServerName masterServer) throws IOException {
+        return getDelegate().getHbck(masterServer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = Boolean.TRUE;
+        connection.whenComplete((delegate, throwable) -> {
+            if (delegate != null) {
+                try {
+                    delegate.close();
+                } catch (IOException e) {
+                    log.error("close", e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed || (isConnected() && connection.join().isClosed());
+    }
+
+    @Override
+    public void abort(String why, Throwable e) {
+        if (isConnected()) {
+            connection.join().abort(why, e);
+        }
+    }
+
+    @Override
+    public boolean isAborted() {
+        return isConnected() && connection.join().isAborted();
+    }
+
+}
@@ -0,0 +1,124 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ArrayUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.HRegionLocation;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * region位置预热
+ *  启动时并行加载热点表所有region位置至连接的位置缓存, 避免发布后首批请求逐个查询hbase:meta;
+ *  在{@link ApplicationRunner}中同步执行, 预热完成后应用才会进入就绪状态. 预热失败只记录日志, 不影响启动
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class RegionLocationWarmer implements ApplicationRunner {
+
+    private static final byte[] FIRST_ROW = new byte[]{0};
+
+    private final Connection connection;
+    private final List<String> tables;
+    private final boolean openTables;
+    private final Duration timeout;
+
+    /**
+     * @param connection 连接
+     * @param tables     预热的表
+     * @param openTables 是否打开表并向每个region server发送一次请求, 提前建立RPC连接
+     * @param timeout    预热超时时间, 超时后不再等待
+     */
+    public RegionLocationWarmer(Connection connection, List<String> tables, boolean openTables, Duration timeout) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.notNull(timeout, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "timeout"));
+        this.connection = connection;
+        this.tables = tables;
+        this.openTables = openTables;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmup();
+    }
+
+    /**
+     * 预热
+     */
+    public void warmup() {
+        if (CollectionUtil.isEmpty(tables)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tables.size(), Runtime.getRuntime().availableProcessors()),
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-warmup-").setDaemon(Boolean.TRUE).build());
+        try {
+            CompletableFuture<?>[] futures = tables.stream()
+                    .map(a -> CompletableFuture.runAsync(() -> warmup(a), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("hbase region locations warmed up for {} tables in {} ms", tables.size(), System.currentTimeMillis() - start);
+        } catch (TimeoutException e) {
+            log.warn("hbase region location warmup did not finish within {}", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("warmup", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void warmup(String tableName) {
+        long start = System.currentTimeMillis();
+        TableName name = TableName.valueOf(tableName);
+        try (RegionLocator locator = connection.getRegionLocator(name)) {
+            List<HRegionLocation> locations = locator.getAllRegionLocations();
+            if (openTables) {
+                prefetch(name, locations);
+            }
+            log.debug("hbase table {} warmed up, {} regions in {} ms", tableName, locations.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("warmup {}", tableName, e);
+        }
+    }
+
+    /**
+     * 向每个region server发送一次请求
+     */
+    private void prefetch(TableName tableName, List<HRegionLocation> locations) throws Exception {
+        Map<ServerName, byte[]> rows = new LinkedHashMap<>();
+        for (HRegionLocation location : locations) {
+            byte[] startKey = location.getRegion().getStartKey();
+            rows.putIfAbsent(location.getServerName(), ArrayUtil.isEmpty(startKey) ? FIRST_ROW : startKey);
+        }
+        Table table = connection.getTable(tableName);
+        try {
+            for (byte[] row : rows.values()) {
+                table.exists(new Get(row));
+            }
+        } finally {
+            HbaseUtils.close(table);
+        }
+    }
+
+}
@@ -0,0 +1,457 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.CompactionUnit;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.RegionMetrics;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.CompactionState;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionInfo;
+import org.apache.hadoop.hbase.client.RegionReplicaUtil;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 滚动压缩
+ *  按region或服务分批发起压缩, 同一任务同时压缩的单位数不超过上限, 确认压缩完成后再发起下一批:
+ *  主压缩以region最近主压缩时间晚于发起时间为准, 次压缩以观察到压缩结束或存储文件数减少为准;
+ *  近期已完成主压缩及没有存储文件的region跳过. 所有任务共用一个调度线程, 任务可暂停, 恢复及取消
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Slf4j
+public class RollingCompactor implements Closeable {
+
+    /**
+     * 默认同时压缩的单位数
+     */
+    public static final int DEFAULT_MAX_CONCURRENT = 1;
+
+    /**
+     * 默认轮询间隔, 10秒
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * 默认跳过最近24小时内完成过主压缩的region
+     */
+    public static final Duration DEFAULT_SKIP_WITHIN = Duration.ofHours(24);
+
+    /**
+     * 次压缩没有完成标记, 发起后连续多次轮询均未观察到压缩中且存储文件数未变化时, 视为没有可压缩的文件
+     */
+    private static final int IDLE_POLLS_TO_COMPLETE = 3;
+
+    private final Connection connection;
+    private final ClusterMetadataIndex metadataIndex;
+    private final int maxConcurrent;
+    private final long pollIntervalMs;
+    private final long skipWithinMs;
+    private final ScheduledExecutorService scheduler;
+
+    public RollingCompactor(Connection connection, ClusterMetadataIndex metadataIndex) {
+        this(connection, metadataIndex, DEFAULT_MAX_CONCURRENT, DEFAULT_POLL_INTERVAL, DEFAULT_SKIP_WITHIN);
+    }
+
+    /**
+     * @param connection    连接
+     * @param metadataIndex 集群元数据索引
+     * @param maxConcurrent 每个任务同时压缩的单位数
+     * @param pollInterval  轮询间隔
+     * @param skipWithin    跳过该时长内完成过主压缩的region, 为0时不跳过
+     */
+    public RollingCompactor(Connection connection, ClusterMetadataIndex metadataIndex,
+                            int maxConcurrent, Duration pollInterval, Duration skipWithin) {
+        Assert.notNull(connection, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "connection"));
+        Assert.notNull(metadataIndex, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "metadataIndex"));
+        Assert.isTrue(maxConcurrent > 0, "The given 'maxConcurrent' must be greater than 0");
+        Assert.notNull(pollInterval, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "pollInterval"));
+        Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "The given 'pollInterval' must be greater than 0");
+        Assert.notNull(skipWithin, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "skipWithin"));
+        this.connection = connection;
+        this.metadataIndex = metadataIndex;
+        this.maxConcurrent = maxConcurrent;
+        this.pollIntervalMs = pollInterval.toMillis();
+        this.skipWithinMs = skipWithin.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.create().setNamePrefix("hbase-rolling-compaction-").setDaemon(Boolean.TRUE).build());
+    }
+
+    /**
+     * 滚动压缩表
+     *
+     * @param tableName 表名
+     * @param unit      压缩单位
+     * @param major     是否主压缩
+     * @return {@link RollingCompaction}
+     */
+    public RollingCompaction compactTable(String tableName, CompactionUnit unit, boolean major) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        TableName table = metadataIndex.getTableName(tableName);
+        Assert.notNull(table, HbaseExceptionEnum.getException(HbaseExceptionEnum.SPECIFIED_VALUE, tableName));
+        return submit(tableName, regions(Collections.singletonList(table)), unit, major);
+    }
+
+    /**
+     * 逐个服务滚动压缩所有用户表
+     *
+     * @param major 是否主压缩
+     * @return {@link RollingCompaction}
+     */
+    public RollingCompaction compactCluster(boolean major) {
+        List<TableName> tableNames = CollectionUtil.newArrayList();
+        for (TableName tableName : metadataIndex.getTableNames()) {
+            if (!tableName.isSystemTable()) {
+                tableNames.add(tableName);
+            }
+        }
+        return submit("cluster", regions(tableNames), CompactionUnit.SERVER, major);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 从meta读取表的region, 不包含已下线的拆分父region及只读副本
+     */
+    private List<RegionInfo> regions(Collection<TableName> tableNames) {
+        List<RegionInfo> regions = CollectionUtil.newArrayList();
+        try (Admin admin = connection.getAdmin()) {
+            for (TableName tableName : tableNames) {
+                for (RegionInfo region : admin.getRegions(tableName)) {
+                    if (RegionReplicaUtil.isDefaultReplica(region)) {
+                        regions.add(region);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("regions", e);
+            throw new HbaseException(e);
+        }
+        return regions;
+    }
+
+    /**
+     * 按压缩单位分组, 未分配到服务的region计为跳过
+     */
+    private RollingCompaction submit(String name, List<RegionInfo> regions, CompactionUnit unit, boolean major) {
+        Assert.notNull(unit, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "unit"));
+        Map<String, List<RegionInfo>> groups = new LinkedHashMap<>();
+        int unassigned = 0;
+        for (RegionInfo region : regions) {
+            ServerName serverName = metadataIndex.getServer(region.getRegionNameAsString());
+            if (ObjectUtil.isNull(serverName)) {
+                unassigned++;
+                continue;
+            }
+            String key = CompactionUnit.REGION.equals(unit) ? region.getRegionNameAsString() : serverName.getServerName();
+            groups.computeIfAbsent(key, a -> new ArrayList<>()).add(region);
+        }
+        RollingCompaction compaction = new RollingCompaction(name, major, groups, unassigned);
+        compaction.future = scheduler.scheduleWithFixedDelay(compaction::tick, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("rolling {} compaction of {} started, {} units, {} regions",
+                major ? "major" : "minor", name, groups.size(), compaction.getTotal());
+        return compaction;
+    }
+
+    /**
+     * 压缩中的region
+     */
+    private static class Tracked {
+
+        private final RegionInfo region;
+
+        /**
+         * 发起压缩的时间
+         */
+        private final long requestedAt;
+
+        /**
+         * 发起时的存储文件数, 未知时为-1
+         */
+        private final int storeFiles;
+        private boolean seenActive;
+        private int idlePolls;
+
+        Tracked(RegionInfo region, long requestedAt, int storeFiles) {
+            this.region = region;
+            this.requestedAt = requestedAt;
+            this.storeFiles = storeFiles;
+        }
+
+    }
+
+    /**
+     * 滚动压缩任务
+     *  进度以region为单位统计, 暂停后不再发起新的压缩, 已发起的压缩继续执行
+     */
+    public class RollingCompaction {
+
+        /**
+         * 表名, 压缩整个集群时为cluster
+         */
+        @Getter
+        private final String name;
+
+        @Getter
+        private final boolean major;
+
+        /**
+         * region总数
+         */
+        @Getter
+        private final int total;
+
+        private final Deque<Map.Entry<String, List<RegionInfo>>> pending;
+        private final Map<String, List<Tracked>> running = new LinkedHashMap<>();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean paused;
+        private volatile boolean cancelled;
+        private volatile List<String> current = Collections.emptyList();
+        private volatile ScheduledFuture<?> future;
+
+        private RollingCompaction(String name, boolean major, Map<String, List<RegionInfo>> groups, int unassigned) {
+            this.name = name;
+            this.major = major;
+            this.pending = new ArrayDeque<>(groups.entrySet());
+            this.total = groups.values().stream().mapToInt(List::size).sum() + unassigned;
+            this.skipped.set(unassigned);
+        }
+
+        /**
+         * 已完成的region数
+         */
+        public int getCompleted() {
+            return completed.get();
+        }
+
+        /**
+         * 跳过的region数, 包含近期已主压缩及未分配的region
+         */
+        public int getSkipped() {
+            return skipped.get();
+        }
+
+        /**
+         * 发起或轮询失败的region数
+         */
+        public int getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * 压缩中的region数
+         */
+        public int getRunning() {
+            return inFlight.get();
+        }
+
+        /**
+         * 正在压缩的单位, region名或服务名
+         */
+        public List<String> getCurrentUnits() {
+            return current;
+        }
+
+        /**
+         * 进度, 0 ~ 1
+         */
+        public double getProgress() {
+            return total == 0 ? 1D : (double) (getCompleted() + getSkipped() + getFailed()) / total;
+        }
+
+        /**
+         * 暂停, 不再发起新的压缩
+         */
+        public void pause() {
+            this.paused = Boolean.TRUE;
+        }
+
+        /**
+         * 恢复
+         */
+        public void resume() {
+            this.paused = Boolean.FALSE;
+        }
+
+        public boolean isPaused() {
+            return paused;
+        }
+
+        /**
+         * 取消, 不再发起新的压缩也不再跟踪已发起的压缩
+         */
+        public void cancel() {
+            this.cancelled = Boolean.TRUE;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        /**
+         * 等待任务结束
+         *
+         * @param timeout 超时时间
+         * @return 是否已结束
+         * @throws InterruptedException 中断
+         */
+        public boolean await(Duration timeout) throws InterruptedException {
+            return done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void tick() {
+            if (isDone()) {
+                // 首次执行早于future赋值时, 在此取消调度
+                future.cancel(Boolean.FALSE);
+                return;
+            }
+            try (Admin admin = connection.getAdmin()) {
+                if (!cancelled) {
+                    poll(admin);
+                    while (!paused && !cancelled && running.size() < maxConcurrent && !pending.isEmpty()) {
+                        start(admin, pending.poll());
+                    }
+                }
+            } catch (Throwable e) {
+                log.warn("rolling compaction of {} tick failed, will retry: {}", name, e.getMessage());
+            }
+            current = new ArrayList<>(running.keySet());
+            if (cancelled || (running.isEmpty() && pending.isEmpty())) {
+                finish();
+            }
+        }
+
+        private void start(Admin admin, Map.Entry<String, List<RegionInfo>> unit) {
+            List<Tracked> tracked = CollectionUtil.newArrayList();
+            for (RegionInfo region : unit.getValue()) {
+                try {
+                    long now = System.currentTimeMillis();
+                    long lastMajorCompaction = admin.getLastMajorCompactionTimestampForRegion(region.getRegionName());
+                    int storeFiles = storeFiles(admin, region);
+                    if ((skipWithinMs > 0 && lastMajorCompaction > 0 && now - lastMajorCompaction < skipWithinMs) || storeFiles == 0) {
+                        skipped.incrementAndGet();
+                        continue;
+                    }
+                    if (major) {
+                        admin.majorCompactRegion(region.getRegionName());
+                    } else {
+                        admin.compactRegion(region.getRegionName());
+                    }
+                    tracked.add(new Tracked(region, now, storeFiles));
+                    inFlight.incrementAndGet();
+                } catch (IOException e) {
+                    failed.incrementAndGet();
+                    log.warn("rolling compaction of {}, compact region {} failed: {}", name, region.getRegionNameAsString(), e.getMessage());
+                }
+            }
+            if (!tracked.isEmpty()) {
+                running.put(unit.getKey(), tracked);
+            }
+        }
+
+        private void poll(Admin admin) {
+            Iterator<Map.Entry<String, List<Tracked>>> units = running.entrySet().iterator();
+            while (units.hasNext()) {
+                Map.Entry<String, List<Tracked>> unit = units.next();
+                unit.getValue().removeIf(tracked -> poll(admin, tracked));
+                if (unit.getValue().isEmpty()) {
+                    log.debug("rolling compaction of {}, unit {} completed", name, unit.getKey());
+                    units.remove();
+                }
+            }
+        }
+
+        /**
+         * 轮询region压缩状态
+         *  请求在region server上排队时状态同样为{@link CompactionState#NONE}, 主压缩需等待最近主压缩时间晚于发起时间,
+         *  期间观察到的压缩可能是此前排队的次压缩
+         *
+         * @return region压缩是否已结束
+         */
+        private boolean poll(Admin admin, Tracked tracked) {
+            try {
+                byte[] regionName = tracked.region.getRegionName();
+                if (!CompactionState.NONE.equals(admin.getCompactionStateForRegion(regionName))) {
+                    tracked.seenActive = Boolean.TRUE;
+                    return Boolean.FALSE;
+                }
+                int storeFiles = storeFiles(admin, tracked.region);
+                boolean finished;
+                if (major) {
+                    finished = admin.getLastMajorCompactionTimestampForRegion(regionName) >= tracked.requestedAt || storeFiles == 0;
+                } else {
+                    finished = tracked.seenActive || (storeFiles >= 0 && storeFiles < tracked.storeFiles)
+                            || ++tracked.idlePolls >= IDLE_POLLS_TO_COMPLETE;
+                }
+                if (finished) {
+                    completed.incrementAndGet();
+                    inFlight.decrementAndGet();
+                    return Boolean.TRUE;
+                }
+                return Boolean.FALSE;
+            } catch (IOException e) {
+                failed.incrementAndGet();
+                inFlight.decrementAndGet();
+                log.warn("rolling compaction of {}, poll region {} failed: {}", name, tracked.region.getRegionNameAsString(), e.getMessage());
+                return Boolean.TRUE;
+            }
+        }
+
+        /**
+         * region的存储文件数, region不在索引记录的服务上时为-1
+         */
+        private int storeFiles(Admin admin, RegionInfo region) throws IOException {
+            ServerName serverName = metadataIndex.getServer(region.getRegionNameAsString());
+            if (ObjectUtil.isNull(serverName)) {
+                return -1;
+            }
+            for (RegionMetrics metrics : admin.getRegionMetrics(serverName, region.getTable())) {
+                if (Bytes.equals(metrics.getRegionName(), region.getRegionName())) {
+                    return metrics.getStoreFileCount();
+                }
+            }
+            return -1;
+        }
+
+        private void finish() {
+            if (isDone()) {
+                return;
+            }
+            if (ObjectUtil.isNotNull(future)) {
+                future.cancel(Boolean.FALSE);
+            }
+            done.countDown();
+            log.info("rolling compaction of {} {}, {} completed, {} skipped, {} failed of {} regions",
+                    name, cancelled ? "cancelled" : "finished", getCompleted(), getSkipped(), getFailed(), total);
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Getter;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 单表行缓存
+ *  按行Key缓存{@link Result}, 同一行的不同列族/字段投影分别缓存; 行是淘汰与失效的最小单位,
+ *  容量满时优先淘汰访问次数最少的行, 写入超过存活时间后过期
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class RowCache {
+
+    /**
+     * 默认最大缓存行数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /**
+     * 默认存活时间, 60秒
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(60);
+
+    @Getter
+    private final String tableName;
+
+    @Getter
+    private final int maximumSize;
+
+    @Getter
+    private final Duration timeToLive;
+
+    private final CountingLFUCache cache;
+
+    /**
+     * 失效版本分段数
+     */
+    private static final int STRIPES = 1024;
+
+    /**
+     * 按行Key哈希分段的失效版本, 加载期间该行所在分段发生失效时不写入缓存, 避免旧数据覆盖新写入;
+     *  其他行的写入不影响进行中的加载
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public RowCache(String tableName) {
+        this(tableName, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param tableName   表名
+     * @param maximumSize 最大缓存行数
+     * @param timeToLive  存活时间, 自写入起计算
+     */
+    public RowCache(String tableName, int maximumSize, Duration timeToLive) {
+        Assert.notBlank(tableName, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "tableName"));
+        Assert.notNull(timeToLive, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "timeToLive"));
+        Assert.isTrue(maximumSize > 0, "The given 'maximumSize' must be greater than 0");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "The given 'timeToLive' must be greater than 0");
+        this.tableName = tableName;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.cache = new CountingLFUCache(maximumSize, timeToLive.toMillis());
+    }
+
+    /**
+     * 投影标识
+     *
+     * @param columnFamily 列族, 为空时表示整行
+     * @param qualifier    字段名, 为空时表示整个列族
+     * @return {@link String}
+     */
+    public static String projection(String columnFamily, String qualifier) {
+        if (StrUtil.isBlank(columnFamily)) {
+            return StrUtil.EMPTY;
+        }
+        return StrUtil.isBlank(qualifier) ? columnFamily : columnFamily + StrUtil.COLON + qualifier;
+    }
+
+    /**
+     * 获取缓存行, 不存在时加载并写入缓存
+     *  空结果同样缓存, 避免不存在的行反复穿透
+     *
+     * @param row        行Key
+     * @param projection 投影标识
+     * @param loader     加载器
+     * @return {@link Result}
+     */
+    public Result get(byte[] row, String projection, Supplier<Result> loader) {
+        Result result = getIfPresent(row, projection);
+        if (ObjectUtil.isNotNull(result)) {
+            return result;
+        }
+        long stamp = stamp(row);
+        result = loader.get();
+        put(row, projection, result, stamp);
+        return result;
+    }
+
+    /**
+     * 获取缓存行
+     *
+     * @param row        行Key
+     * @param projection 投影标识
+     * @return {@link Result}, 未缓存时为null
+     */
+    public Result getIfPresent(byte[] row, String projection) {
+        Map<String, Result> projections = cache.get(new Bytes(row), Boolean.FALSE);
+        Result result = ObjectUtil.isNull(projections) ? null : projections.get(projection);
+        if (ObjectUtil.isNull(result)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 行当前的失效版本, 与{@link #put(byte[], String, Result, long)}配合使用
+     *
+     * @param row 行Key
+     * @return long
+     */
+    public long stamp(byte[] row) {
+        return generations.get(stripe(row));
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param row        行Key
+     * @param projection 投影标识
+     * @param result     结果
+     * @param stamp      加载前行的失效版本, 加载期间该行发生过失效时不写入
+     */
+    public void put(byte[] row, String projection, Result result, long stamp) {
+        int stripe = stripe(row);
+        if (ObjectUtil.isNull(result) || generations.get(stripe) != stamp) {
+            return;
+        }
+        Bytes key = new Bytes(row);
+        Map<String, Result> projections = cache.get(key, Boolean.FALSE, ConcurrentHashMap::new);
+        projections.put(projection, result);
+        if (generations.get(stripe) != stamp) {
+            projections.remove(projection, result);
+        }
+    }
+
+    /**
+     * 使行的所有投影失效
+     *
+     * @param row 行Key
+     */
+    public void invalidate(byte[] row) {
+        generations.incrementAndGet(stripe(row));
+        cache.remove(new Bytes(row));
+    }
+
+    /**
+     * 使所有行失效
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.clear();
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return long
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 因容量或过期被淘汰的行数, 不包含主动失效
+     *
+     * @return long
+     */
+    public long getEvictionCount() {
+        return cache.evictions.sum();
+    }
+
+    /**
+     * 当前缓存行数
+     *
+     * @return int
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private static int stripe(byte[] row) {
+        return Bytes.hashCode(row) & (STRIPES - 1);
+    }
+
+    /**
+     * 记录淘汰数量的{@link LFUCache}
+     */
+    private static class CountingLFUCache extends LFUCache<Bytes, Map<String, Result>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final LongAdder evictions = new LongAdder();
+
+        CountingLFUCache(int capacity, long timeout) {
+            super(capacity, timeout);
+        }
+
+        @Override
+        protected int pruneCache() {
+            int count = super.pruneCache();
+            evictions.add(count);
+            return count;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import com.alibaba.fastjson.JSON;
+
+/**
+ * 行序列化器
+ *  用于将映射后的行写入溢出文件
+ *
+ * @param <T> 泛型
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public interface RowSerializer<T> {
+
+    /**
+     * 序列化
+     *
+     * @param row 行
+     * @return byte[]
+     */
+    byte[] serialize(T row);
+
+    /**
+     * 反序列化
+     *
+     * @param data 数据
+     * @return {@link T}
+     */
+    T deserialize(byte[] data);
+
+    /**
+     * JSON序列化器
+     *
+     * @param type 行类型
+     * @return {@link RowSerializer}<{@link T}>
+     */
+    static <T> RowSerializer<T> json(Class<T> type) {
+        Assert.notNull(type, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "type"));
+        return new RowSerializer<T>() {
+            @Override
+            public byte[] serialize(T row) {
+                return JSON.toJSONBytes(row);
+            }
+
+            @Override
+            public T deserialize(byte[] data) {
+                return JSON.parseObject(data, type);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,97 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.HbaseUtils;
+import cn.darkjrong.hbase.callback.RowMapper;
+import cn.hutool.core.lang.Assert;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 扫描迭代器
+ *  按需从{@link ResultScanner}拉取数据并映射, 不缓存结果; 遍历结束或调用{@link #close()}时释放扫描器及表
+ *
+ * @param <T> 泛型
+ * @author Rong.Jia
+ * @date 2022/11/26
+ */
+@Slf4j
+public class ScannerIterator<T> implements Iterator<T>, Closeable {
+
+    private final Table table;
+    private final ResultScanner scanner;
+    private final RowMapper<T> rowMapper;
+
+    private T next;
+    private int rowNum = 0;
+    private boolean closed = Boolean.FALSE;
+
+    public ScannerIterator(Table table, ResultScanner scanner, RowMapper<T> rowMapper) {
+        Assert.notNull(scanner, "ResultScanner is required");
+        Assert.notNull(rowMapper, "RowMapper is required");
+        this.table = table;
+        this.scanner = scanner;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            Result result;
+            try {
+                result = scanner.next();
+            } catch (IOException e) {
+                close();
+                log.error("next", e);
+                throw new HbaseException(e);
+            }
+            if (result == null) {
+                close();
+            } else {
+                next = rowMapper.mapRow(result, rowNum++);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T current = next;
+        next = null;
+        return current;
+    }
+
+    /**
+     * 转换为流, 流关闭时释放扫描器及表
+     *
+     * @return {@link Stream}<{@link T}>
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = Boolean.TRUE;
+            HbaseUtils.close(scanner);
+            HbaseUtils.close(table);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.enums.HbaseExceptionEnum;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 请求合并
+ *  同一个Key同时只执行一次加载, 加载期间到达的相同请求等待并共享该次结果(包括异常),
+ *  加载结束后立即移除, 不做缓存
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 执行加载, 相同Key已有加载进行中时等待其结果
+     *
+     * @param key    Key
+     * @param loader 加载器
+     * @return {@link V}
+     */
+    public V execute(K key, Supplier<V> loader) {
+        Assert.notNull(key, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "key"));
+        Assert.notNull(loader, HbaseExceptionEnum.getException(HbaseExceptionEnum.GIVEN_VALUE, "loader"));
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (ObjectUtil.isNotNull(inFlight)) {
+            shared.increment();
+            return await(inFlight);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 共享他人加载结果的请求次数
+     *
+     * @return long
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * 进行中的加载数
+     *
+     * @return int
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = ObjectUtil.isNull(e.getCause()) ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new HbaseException(cause);
+        }
+    }
+
+}
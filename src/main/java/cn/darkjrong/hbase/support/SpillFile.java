@@ -0,0 +1,168 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 溢出文件
+ *  行按 4字节长度 + 序列化数据 顺序写入, 读写均通过分段内存映射完成, 关闭或JVM退出时删除文件;
+ *  未关闭的文件登记在进程内的表中, 由唯一的关闭钩子在退出时删除, 关闭后即移出, 不随溢出次数累积.
+ *  映射缓冲区不主动解除映射(Java 8无公开接口), 在被回收时释放; 回收前已删除文件占用的磁盘空间不会归还,
+ *  Windows下映射未回收时删除会失败, 此时保留登记, 退出时再删除
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+@Getter
+public class SpillFile implements Closeable {
+
+    /**
+     * 内存映射分段大小, 64M
+     */
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * 未关闭的溢出文件
+     */
+    private static final Set<File> OPEN_FILES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> OPEN_FILES.forEach(File::delete), "hbase-spill-cleaner"));
+    }
+
+    private final File file;
+    private final long size;
+    private final int count;
+
+    private SpillFile(File file, long size, int count) {
+        this.file = file;
+        this.size = size;
+        this.count = count;
+    }
+
+    /**
+     * 将行写入新的溢出文件
+     *
+     * @param directory  目录
+     * @param rows       行
+     * @param serializer 序列化器
+     * @return {@link SpillFile}
+     * @throws IOException 写入失败
+     */
+    public static <T> SpillFile write(File directory, List<T> rows, RowSerializer<T> serializer) throws IOException {
+        File file = File.createTempFile("hbase-spill-", ".run", directory);
+        // 未关闭的溢出结果在JVM退出时删除
+        OPEN_FILES.add(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            long base = 0;
+            int index = 0;
+            MappedByteBuffer buffer = null;
+            for (T row : rows) {
+                byte[] data = serializer.serialize(row);
+                int need = Integer.BYTES + data.length;
+                if (buffer == null || buffer.remaining() < need) {
+                    if (buffer != null) {
+                        base += buffer.position();
+                    }
+                    // 按已写入行的平均大小估算剩余数据量, 映射不超过一个分段
+                    long estimated = (base + need) / (index + 1) * (rows.size() - index);
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, base, Math.max(need, Math.min(SEGMENT_SIZE, estimated)));
+                }
+                buffer.putInt(data.length).put(data);
+                index++;
+            }
+            long size = buffer == null ? 0 : base + buffer.position();
+            channel.truncate(size);
+            return new SpillFile(file, size, rows.size());
+        } catch (IOException | RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    /**
+     * 按写入顺序读取
+     *
+     * @param serializer 序列化器
+     * @return {@link Iterator}<{@link T}>
+     */
+    public <T> Iterator<T> iterator(RowSerializer<T> serializer) {
+        return new Iterator<T>() {
+
+            private long position;
+            private MappedByteBuffer buffer;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ensure(Integer.BYTES);
+                int length = buffer.getInt();
+                position += Integer.BYTES;
+                ensure(length);
+                byte[] data = new byte[length];
+                buffer.get(data);
+                position += length;
+                return serializer.deserialize(data);
+            }
+
+            /**
+             * 当前映射段剩余不足时, 从当前位置重新映射
+             */
+            private void ensure(int need) {
+                if (buffer != null && buffer.remaining() >= need) {
+                    return;
+                }
+                // 映射建立后即可关闭通道, 映射在缓冲区被回收前保持有效
+                try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Math.max(SEGMENT_SIZE, need), size - position));
+                } catch (IOException e) {
+                    throw new HbaseException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 删除文件
+     */
+    @Override
+    public void close() {
+        delete(file);
+    }
+
+    /**
+     * 未关闭的溢出文件
+     *
+     * @return {@link Set}<{@link File}>
+     */
+    static Set<File> openFiles() {
+        return Collections.unmodifiableSet(OPEN_FILES);
+    }
+
+    private static void delete(File file) {
+        if (file.delete() || !file.exists()) {
+            OPEN_FILES.remove(file);
+        }
+    }
+
+}
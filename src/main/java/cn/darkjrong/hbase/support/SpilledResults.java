@@ -0,0 +1,127 @@
+package cn.darkjrong.hbase.support;
+
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.collection.IterChain;
+import cn.hutool.core.util.ObjectUtil;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 溢出结果
+ *  部分行保存在堆内, 其余保存在溢出文件中; 可重复遍历, 指定排序时各溢出文件各自有序, 遍历时多路归并输出.
+ *  使用完毕后应调用{@link #close()}及时删除溢出文件, 未关闭的溢出文件在JVM退出时删除
+ *
+ * @param <T> 泛型
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class SpilledResults<T> implements Iterable<T>, Closeable {
+
+    private final List<T> memory;
+    private final List<SpillFile> runs;
+    private final RowSerializer<T> serializer;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * 总行数
+     */
+    @Getter
+    private final long size;
+
+    public SpilledResults(List<T> memory, List<SpillFile> runs, RowSerializer<T> serializer, Comparator<? super T> comparator) {
+        this.memory = memory;
+        this.runs = runs;
+        this.serializer = serializer;
+        this.comparator = comparator;
+        this.size = memory.size() + runs.stream().mapToLong(SpillFile::getCount).sum();
+    }
+
+    /**
+     * 是否发生溢出
+     *
+     * @return boolean
+     */
+    public boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+
+    /**
+     * 溢出文件数
+     *
+     * @return int
+     */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (runs.isEmpty()) {
+            return Collections.unmodifiableList(memory).iterator();
+        }
+        List<Iterator<T>> sources = CollectionUtil.newArrayList();
+        runs.forEach(run -> sources.add(run.iterator(serializer)));
+        sources.add(memory.iterator());
+        if (ObjectUtil.isNotNull(comparator)) {
+            return new MergeIterator<>(sources, comparator);
+        }
+        IterChain<T> chain = new IterChain<>();
+        sources.forEach(chain::addChain);
+        return chain;
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), Boolean.FALSE);
+    }
+
+    @Override
+    public void close() {
+        runs.forEach(SpillFile::close);
+    }
+
+    /**
+     * 多路归并迭代器, 相等的行按来源顺序输出
+     */
+    private static class MergeIterator<T> implements Iterator<T> {
+
+        private final List<Iterator<T>> sources;
+        private final PriorityQueue<Map.Entry<T, Integer>> heads;
+
+        MergeIterator(List<Iterator<T>> sources, Comparator<? super T> comparator) {
+            this.sources = sources;
+            Comparator<Map.Entry<T, Integer>> byRow = (a, b) -> comparator.compare(a.getKey(), b.getKey());
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()), byRow.thenComparing(Map.Entry::getValue));
+            for (int i = 0; i < sources.size(); i++) {
+                advance(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Map.Entry<T, Integer> head = heads.poll();
+            if (ObjectUtil.isNull(head)) {
+                throw new NoSuchElementException();
+            }
+            advance(head.getValue());
+            return head.getKey();
+        }
+
+        private void advance(int source) {
+            Iterator<T> iterator = sources.get(source);
+            if (iterator.hasNext()) {
+                heads.add(new AbstractMap.SimpleImmutableEntry<>(iterator.next(), source));
+            }
+        }
+
+    }
+
+}
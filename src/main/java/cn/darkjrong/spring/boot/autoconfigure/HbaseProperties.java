@@ -1,9 +1,26 @@
 package cn.darkjrong.spring.boot.autoconfigure;
 
+import cn.darkjrong.hbase.HbaseTemplate;
+import cn.darkjrong.hbase.bulkload.BulkLoader;
+import cn.darkjrong.hbase.enums.DistributorType;
+import cn.darkjrong.hbase.enums.IdType;
+import cn.darkjrong.hbase.scan.ParallelScanner;
+import cn.darkjrong.hbase.scan.ScanPipeline;
+import cn.darkjrong.hbase.support.BufferedMutatorPool;
+import cn.darkjrong.hbase.support.ClusterMetadataIndex;
+import cn.darkjrong.hbase.support.GetBatcher;
+import cn.darkjrong.hbase.support.RollingCompactor;
+import cn.darkjrong.hbase.support.RowCache;
 import lombok.Data;
 import org.apache.hadoop.hbase.HConstants;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Hbase 配置属性
  *
@@ -35,6 +52,281 @@ public class HbaseProperties {
      */
     private boolean tableSanityChecks = Boolean.TRUE;
 
+    /**
+     * 是否延迟连接, 开启后在后台线程连接hbase, 不阻塞应用启动, 默认：false
+     */
+    private boolean lazyConnect = Boolean.FALSE;
+
+    /**
+     * 实体行Key生成方式, 默认：INPUT
+     */
+    private IdType idType = IdType.INPUT;
+
+    /**
+     * BufferedMutator 配置
+     */
+    private Mutator mutator = new Mutator();
+
+    /**
+     * 读取配置
+     */
+    private Get get = new Get();
+
+    /**
+     * 扫描配置
+     */
+    private Scan scan = new Scan();
+
+    /**
+     * 异步配置
+     */
+    private Async async = new Async();
+
+    /**
+     * 指标配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 预热配置
+     */
+    private Warmup warmup = new Warmup();
+
+    /**
+     * 集群元数据配置
+     */
+    private Metadata metadata = new Metadata();
+
+    /**
+     * 行缓存配置
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 批量导入配置
+     */
+    private BulkLoad bulkLoad = new BulkLoad();
+
+    /**
+     * 行Key分散配置, key: 表名
+     */
+    private Map<String, Distributor> distributors = new LinkedHashMap<>();
+
+    /**
+     * 滚动压缩配置
+     */
+    private Compaction compaction = new Compaction();
+
+    @Data
+    public static class Mutator {
+
+        /**
+         * 每张表写缓冲区大小(字节), 超过后自动提交, 默认：3M
+         */
+        private long writeBufferSize = BufferedMutatorPool.DEFAULT_WRITE_BUFFER_SIZE;
+
+        /**
+         * 周期刷新时间, 缓冲区中最早的数据超过该时间后自动提交, 为0时不开启, 默认：1秒
+         */
+        private Duration periodicFlushTimeout = Duration.ofMillis(BufferedMutatorPool.DEFAULT_PERIODIC_FLUSH_TIMEOUT_MS);
+
+    }
+
+    @Data
+    public static class Get {
+
+        /**
+         * 批量获取时单次请求的最大行数, 超过后拆分为多次请求, 默认：1000
+         */
+        private int batchSize = HbaseTemplate.DEFAULT_MULTI_GET_BATCH_SIZE;
+
+        /**
+         * 是否合并并发的相同读取, 同一行同一列族/字段同时只发送一次请求, 默认：true
+         */
+        private boolean collapse = Boolean.TRUE;
+
+        /**
+         * 是否将并发的单行读取合并为批量读取, 默认：false
+         */
+        private boolean coalesce = Boolean.FALSE;
+
+        /**
+         * 合并时间窗口, 自批次中首个请求到达起计算, 默认：500微秒
+         */
+        private Duration coalesceWindow = GetBatcher.DEFAULT_WINDOW;
+
+        /**
+         * 单批最大请求数, 达到后立即发送, 默认：64
+         */
+        private int coalesceMaxSize = GetBatcher.DEFAULT_MAX_BATCH_SIZE;
+
+        /**
+         * 合并批次的发送线程数, 默认：CPU核数
+         */
+        private int coalesceThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 合并批次的发送等待队列长度, 队列满时由定时线程直接发送, 默认：1024
+         */
+        private int coalesceQueueCapacity = GetBatcher.DEFAULT_QUEUE_CAPACITY;
+
+    }
+
+    @Data
+    public static class Scan {
+
+        /**
+         * 并行扫描并行度, 默认：CPU核数
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 并行扫描每个子扫描缓冲行数, 默认：1000
+         */
+        private int queueCapacity = ParallelScanner.DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * 流水线查询行映射线程数, 默认：CPU核数
+         */
+        private int pipelineWorkers = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 流水线查询预读深度, 默认：256
+         */
+        private int pipelineDepth = ScanPipeline.DEFAULT_DEPTH;
+
+    }
+
+    @Data
+    public static class Async {
+
+        /**
+         * 是否开启异步模板(AsyncHbaseTemplate, ReactiveHbaseTemplate), 开启后额外创建一个异步连接, 默认：false
+         */
+        private boolean enabled = Boolean.FALSE;
+
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * 引入Micrometer时是否记录指标, 默认：true
+         */
+        private boolean enabled = Boolean.TRUE;
+
+        /**
+         * 是否发布百分位直方图, 默认：true
+         */
+        private boolean histogram = Boolean.TRUE;
+
+    }
+
+    @Data
+    public static class Warmup {
+
+        /**
+         * 启动时预热region位置的表
+         */
+        private List<String> tables = new ArrayList<>();
+
+        /**
+         * 是否打开表并向每个region server发送一次请求, 默认：false
+         */
+        private boolean openTables = Boolean.FALSE;
+
+        /**
+         * 预热超时时间, 超时后不再等待, 默认：60秒
+         */
+        private Duration timeout = Duration.ofSeconds(60);
+
+    }
+
+    @Data
+    public static class Metadata {
+
+        /**
+         * region, 表, 服务元数据索引刷新间隔, 默认：60秒
+         */
+        private Duration refreshInterval = ClusterMetadataIndex.DEFAULT_REFRESH_INTERVAL;
+
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * 开启行缓存的表, 为空时不开启
+         */
+        private List<String> tables = new ArrayList<>();
+
+        /**
+         * 每张表最大缓存行数, 超过后淘汰访问次数最少的行, 默认：10000
+         */
+        private int maximumSize = RowCache.DEFAULT_MAXIMUM_SIZE;
+
+        /**
+         * 缓存存活时间, 自写入起计算, 默认：60秒
+         */
+        private Duration timeToLive = RowCache.DEFAULT_TIME_TO_LIVE;
+
+    }
+
+    @Data
+    public static class BulkLoad {
+
+        /**
+         * HFile暂存目录, 应与hbase.rootdir位于同一文件系统, 默认：用户目录下的hbase-bulkload
+         */
+        private String stagingDir;
+
+        /**
+         * 内存块大小(字节), 每块数据排序后写出HFile, 默认：256M
+         */
+        private long chunkSize = BulkLoader.DEFAULT_CHUNK_SIZE;
+
+        /**
+         * 导入失败重试次数, 默认：3
+         */
+        private int retries = BulkLoader.DEFAULT_RETRIES;
+
+    }
+
+    @Data
+    public static class Distributor {
+
+        /**
+         * 分散方式, 默认：HASH
+         */
+        private DistributorType type = DistributorType.HASH;
+
+        /**
+         * 桶数, 1 ~ 256, 默认：16
+         */
+        private int buckets = 16;
+
+    }
+
+    @Data
+    public static class Compaction {
+
+        /**
+         * 每个滚动压缩任务同时压缩的region或服务数, 默认：1
+         */
+        private int maxConcurrent = RollingCompactor.DEFAULT_MAX_CONCURRENT;
+
+        /**
+         * 压缩状态轮询间隔, 默认：10秒
+         */
+        private Duration pollInterval = RollingCompactor.DEFAULT_POLL_INTERVAL;
+
+        /**
+         * 跳过该时长内完成过主压缩的region, 为0时不跳过, 默认：24小时
+         */
+        private Duration skipWithin = RollingCompactor.DEFAULT_SKIP_WITHIN;
+
+    }
+
 
 
 
@@ -0,0 +1,72 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.support.AggregationEndpoint;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class HbaseTemplateAggregateTest {
+
+    private static final String TABLE = "t";
+
+    private AggregationEndpoint endpoint;
+
+    private HbaseTemplate hbaseTemplate;
+
+    @BeforeEach
+    void before() throws Exception {
+        MemoryTable table = new MemoryTable();
+        for (int i = 1; i <= 4; i++) {
+            table.put(Bytes.toBytes("r" + i), HbaseUtils.toBytes(i * 10));
+        }
+        RegionLocator locator = mock(RegionLocator.class);
+        when(locator.getStartEndKeys()).thenReturn(new Pair<>(new byte[][]{HConstants.EMPTY_START_ROW}, new byte[][]{HConstants.EMPTY_END_ROW}));
+        when(table.getConnection().getRegionLocator(any(TableName.class))).thenReturn(locator);
+
+        endpoint = mock(AggregationEndpoint.class);
+        when(endpoint.isDeployed(TABLE)).thenReturn(Boolean.TRUE);
+        hbaseTemplate = new HbaseTemplate(table.getConnection());
+        hbaseTemplate.setAggregationEndpoint(endpoint);
+    }
+
+    @Test
+    void supportedTypeUsesEndpoint() throws Exception {
+        when(endpoint.sum(any(Table.class), eq(Long.class), any(Scan.class))).thenReturn(42L);
+        when(endpoint.max(any(Table.class), eq(Long.class), any(Scan.class))).thenReturn(7L);
+
+        assertEquals(0, BigDecimal.valueOf(42).compareTo(hbaseTemplate.sum(TABLE, "f", "q", Long.class)));
+        assertEquals(7L, hbaseTemplate.max(TABLE, "f", "q", Long.class));
+        verify(endpoint).sum(any(Table.class), eq(Long.class), argThat((Scan scan) ->
+                scan.getFamilyMap().size() == 1 && scan.getFamilyMap().get(MemoryTable.FAMILY).contains(MemoryTable.QUALIFIER)));
+    }
+
+    @Test
+    void unsupportedTypeIsScanned() throws Exception {
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(hbaseTemplate.sum(TABLE, "f", "q", Integer.class)));
+        assertEquals(10, hbaseTemplate.min(TABLE, "f", "q", Integer.class));
+        assertEquals(40, hbaseTemplate.max(TABLE, "f", "q", Integer.class));
+        verify(endpoint, never()).sum(any(), any(), any());
+    }
+
+    @Test
+    void endpointFailureFallsBackToScan() throws Exception {
+        when(endpoint.min(any(Table.class), eq(Double.class), any(Scan.class))).thenThrow(new IOException("no coprocessor"));
+        assertNull(hbaseTemplate.min(TABLE, "f", "none", Double.class));
+        verify(endpoint).min(any(Table.class), eq(Double.class), any(Scan.class));
+    }
+
+}
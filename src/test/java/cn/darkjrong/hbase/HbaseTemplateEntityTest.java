@@ -0,0 +1,56 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.annotation.HbaseTable;
+import cn.darkjrong.hbase.annotation.RowKey;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HbaseTemplateEntityTest {
+
+    private MemoryTable table;
+
+    private HbaseTemplate hbaseTemplate;
+
+    @BeforeEach
+    void before() throws Exception {
+        table = new MemoryTable();
+        hbaseTemplate = new HbaseTemplate(table.getConnection());
+    }
+
+    @Test
+    void numericRowKeyIsSharedWithGet() {
+        User user = new User();
+        user.id = 1001L;
+        user.q = "jack";
+        hbaseTemplate.save(user);
+
+        assertEquals("jack", hbaseTemplate.get("user", 1001L, "f",
+                (result, rowNum) -> Bytes.toString(result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER))));
+        assertEquals("jack", hbaseTemplate.findById(User.class, 1001L).q);
+        // 实体行Key与HBase Bytes编码一致
+        assertEquals("jack", hbaseTemplate.get("user", Bytes.toBytes(1001L), "f",
+                (result, rowNum) -> Bytes.toString(result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER))));
+    }
+
+    @Test
+    void rowWrittenByGetKeyIsFoundByEntity() {
+        table.put(HbaseUtils.toBytes(2002L), Bytes.toBytes("rose"));
+        User user = hbaseTemplate.findById(User.class, 2002L);
+        assertEquals(2002L, user.id);
+        assertEquals("rose", user.q);
+    }
+
+    @HbaseTable(value = "user", columnFamily = "f")
+    public static class User {
+
+        @RowKey
+        private Long id;
+
+        private String q;
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package cn.darkjrong.hbase;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HbaseTemplateGetTest {
+
+    private static final String TABLE = "t";
+
+    private static final List<String> ROW_KEYS = Arrays.asList("r1", "none", "r1", "r2");
+
+    private MemoryTable table;
+
+    private HbaseTemplate hbaseTemplate;
+
+    @BeforeEach
+    void before() throws Exception {
+        table = new MemoryTable();
+        table.put(Bytes.toBytes("r1"), Bytes.toBytes("v1"));
+        table.put(Bytes.toBytes("r2"), Bytes.toBytes("v2"));
+        hbaseTemplate = new HbaseTemplate(table.getConnection());
+    }
+
+    @Test
+    void listKeepsOneEntryPerRequestedKey() {
+        List<String> rows = hbaseTemplate.get(TABLE, ROW_KEYS, "f", HbaseTemplateGetTest::value);
+        assertEquals(Arrays.asList("v1", null, "v1", "v2"), rows);
+        assertEquals(1, table.getBatchGets());
+    }
+
+    @Test
+    void mapSkipsMissingAndDuplicateKeys() {
+        Map<String, String> rows = hbaseTemplate.getMap(TABLE, ROW_KEYS, "f", HbaseTemplateGetTest::value);
+        assertEquals(Arrays.asList("r1", "r2"), Arrays.asList(rows.keySet().toArray()));
+        assertEquals(Arrays.asList("v1", "v2"), Arrays.asList(rows.values().toArray()));
+    }
+
+    private static String value(Result result, int rowNum) {
+        return Bytes.toString(result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER));
+    }
+
+}
@@ -0,0 +1,121 @@
+package cn.darkjrong.hbase;
+
+import cn.darkjrong.hbase.support.BufferedMutatorPool;
+import cn.darkjrong.hbase.support.RowCache;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class HbaseTemplateRowCacheTest {
+
+    private static final String TABLE = "t";
+
+    private static final byte[] ROW = Bytes.toBytes("r");
+
+    @Test
+    void readAfterInvalidationDoesNotJoinOlderFlight() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(Boolean.TRUE);
+        MemoryTable table = new MemoryTable() {
+            @Override
+            protected Result get(Get get) {
+                Result result = super.get(get);
+                if (first.compareAndSet(Boolean.TRUE, Boolean.FALSE)) {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return result;
+            }
+        };
+        table.put(ROW, Bytes.toBytes("v1"));
+
+        HbaseTemplate hbaseTemplate = new HbaseTemplate(table.getConnection());
+        RowCache rowCache = hbaseTemplate.enableRowCache(TABLE, 100, Duration.ofMinutes(10));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CompletableFuture<String> before = CompletableFuture.supplyAsync(() -> read(hbaseTemplate));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // 读取进行中时写入并失效
+            table.put(ROW, Bytes.toBytes("v2"));
+            rowCache.invalidate(ROW);
+
+            assertEquals("v2", read(hbaseTemplate));
+            release.countDown();
+            assertEquals("v1", before.get());
+        });
+        assertEquals("v2", read(hbaseTemplate));
+        assertEquals(2, table.getGets());
+    }
+
+    @Test
+    void otherRowInvalidationDoesNotRejectLoad() {
+        RowCache rowCache = new RowCache(TABLE);
+        long stamp = rowCache.stamp(ROW);
+        rowCache.invalidate(Bytes.toBytes("s"));
+        assertEquals(stamp, rowCache.stamp(ROW));
+
+        Result result = MemoryTable.row(ROW, Bytes.toBytes("v1"));
+        rowCache.put(ROW, RowCache.projection("f", null), result, stamp);
+        assertSame(result, rowCache.getIfPresent(ROW, RowCache.projection("f", null)));
+
+        rowCache.invalidate(ROW);
+        rowCache.put(ROW, RowCache.projection("f", null), result, stamp);
+        assertNull(rowCache.getIfPresent(ROW, RowCache.projection("f", null)));
+    }
+
+    @Test
+    void bufferedWriteIsInvalidatedAfterFlush() throws Exception {
+        MemoryTable table = new MemoryTable();
+        table.put(ROW, Bytes.toBytes("v1"));
+        List<Put> buffer = new CopyOnWriteArrayList<>();
+        BufferedMutator mutator = mock(BufferedMutator.class);
+        when(mutator.getName()).thenReturn(TableName.valueOf(TABLE));
+        doAnswer(a -> buffer.addAll(a.getArgument(0))).when(mutator).mutate(anyList());
+        doAnswer(a -> {
+            buffer.forEach(table::write);
+            buffer.clear();
+            return null;
+        }).when(mutator).flush();
+        when(table.getConnection().getBufferedMutator(any(BufferedMutatorParams.class))).thenReturn(mutator);
+
+        HbaseTemplate hbaseTemplate = new HbaseTemplate(table.getConnection(),
+                new BufferedMutatorPool(table.getConnection(), BufferedMutatorPool.DEFAULT_WRITE_BUFFER_SIZE, 0));
+        hbaseTemplate.enableRowCache(TABLE, 100, Duration.ofMinutes(10));
+        assertEquals("v1", read(hbaseTemplate));
+
+        hbaseTemplate.saveOrUpdate(TABLE, new Put(ROW).addColumn(MemoryTable.FAMILY, MemoryTable.QUALIFIER, Bytes.toBytes("v2")));
+        verify(mutator, never()).flush();
+        // 未刷新时与直接读取HBase一致
+        assertEquals("v1", read(hbaseTemplate));
+
+        hbaseTemplate.flush(TABLE);
+        assertEquals("v2", read(hbaseTemplate));
+        assertEquals(3, table.getGets());
+    }
+
+    private static String read(HbaseTemplate hbaseTemplate) {
+        return hbaseTemplate.get(TABLE, "r", "f", "q",
+                (result, rowNum) -> Bytes.toString(result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER)));
+    }
+
+}
@@ -1,9 +1,14 @@
 package cn.darkjrong.hbase;
 
+import cn.darkjrong.hbase.annotation.HbaseTable;
 import cn.darkjrong.hbase.domain.ServerInfo;
+import cn.darkjrong.hbase.scan.MergeMode;
+import cn.darkjrong.hbase.scan.ScanBuilder;
+import cn.darkjrong.hbase.support.RowCache;
 import cn.darkjrong.hbase.domain.TableInfo;
 import cn.darkjrong.spring.boot.autoconfigure.HbaseFactoryBean;
 import cn.darkjrong.spring.boot.autoconfigure.HbaseProperties;
+import lombok.Data;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.NamespaceDescriptor;
 import org.apache.hadoop.hbase.TableName;
@@ -12,9 +17,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class HbaseTemplateTest {
 
@@ -355,6 +363,77 @@ public class HbaseTemplateTest {
         System.out.println(hbaseTemplate.getClusterId());
     }
 
+    @Test
+    void getMulti() {
+        List<String> rowKeys = new ArrayList<>();
+        rowKeys.add("1001");
+        rowKeys.add("1002");
+        Map<String, String> rows = hbaseTemplate.getMap("stu", rowKeys, "info", (result, rowNum) -> HbaseUtils.toStr(result.getRow()));
+        System.out.println(rows);
+    }
+
+    @Test
+    void stream() {
+        try (Stream<String> rows = hbaseTemplate.stream("stu", new Scan(), (result, rowNum) -> HbaseUtils.toStr(result.getRow()))) {
+            rows.limit(10).forEach(System.out::println);
+        }
+    }
+
+    @Test
+    void findParallel() {
+        List<String> rows = hbaseTemplate.findParallel("stu", new Scan(), MergeMode.ORDERED, (result, rowNum) -> HbaseUtils.toStr(result.getRow()));
+        System.out.println(rows.size());
+    }
+
+    @Test
+    void saveOrUpdate() {
+        Put put = new Put(HbaseUtils.toBytes("1001")).addColumn(HbaseUtils.toBytes("info"), HbaseUtils.toBytes("name"), HbaseUtils.toBytes("张三"));
+        hbaseTemplate.saveOrUpdate("stu", put);
+        hbaseTemplate.flush("stu");
+    }
+
+    @Test
+    void saveEntity() {
+        Stu stu = new Stu();
+        stu.setId("1002");
+        stu.setName("李四");
+        stu.setAge(18);
+        hbaseTemplate.save(stu);
+        System.out.println(hbaseTemplate.findById(Stu.class, "1002"));
+        System.out.println(hbaseTemplate.findAll(Stu.class).size());
+    }
+
+    @Test
+    void rowCache() {
+        RowCache rowCache = hbaseTemplate.enableRowCache("stu", 1000, Duration.ofSeconds(30));
+        hbaseTemplate.get("stu", "1001", "info", (result, rowNum) -> HbaseUtils.toStr(result.getRow()));
+        hbaseTemplate.get("stu", "1001", "info", (result, rowNum) -> HbaseUtils.toStr(result.getRow()));
+        hbaseTemplate.put("stu", "1001", "info", "name", HbaseUtils.toBytes("张三"));
+        System.out.println(rowCache.getHitCount() + ", " + rowCache.getMissCount() + ", " + rowCache.size());
+    }
+
+    @Test
+    void scanBuilder() {
+        Scan scan = ScanBuilder.create()
+                .prefix("100")
+                .column("info", "name")
+                .eq("info", "age", "18")
+                .limit(10)
+                .build();
+        List<String> names = hbaseTemplate.find("stu", scan, (result, rowNum) -> HbaseUtils.toStr(result.getValue(HbaseUtils.toBytes("info"), HbaseUtils.toBytes("name"))));
+        System.out.println(names);
+    }
+
+    @Data
+    @HbaseTable("stu")
+    public static class Stu {
+
+        private String id;
+        private String name;
+        private Integer age;
+
+    }
+
 
 
 
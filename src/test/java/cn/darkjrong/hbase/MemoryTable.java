@@ -0,0 +1,153 @@
+package cn.darkjrong.hbase;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 内存表, 以Mockito模拟{@link Connection}及{@link Table}的读取接口, 供单元测试使用
+ *
+ * @author Rong.Jia
+ * @date 2022/11/27
+ */
+public class MemoryTable {
+
+    public static final byte[] FAMILY = Bytes.toBytes("f");
+
+    public static final byte[] QUALIFIER = Bytes.toBytes("q");
+
+    private final NavigableMap<byte[], Result> rows = new ConcurrentSkipListMap<>(Bytes.BYTES_COMPARATOR);
+    private final AtomicInteger gets = new AtomicInteger();
+    private final AtomicInteger batchGets = new AtomicInteger();
+    private final Connection connection = mock(Connection.class);
+    private final Table table = mock(Table.class);
+
+    public MemoryTable() throws Exception {
+        when(connection.getTable(any(TableName.class))).thenReturn(table);
+        when(connection.getTable(any(TableName.class), any())).thenReturn(table);
+        when(table.getScanner(any(Scan.class))).thenAnswer(a -> scanner(a.getArgument(0)));
+        when(table.get(any(Get.class))).thenAnswer(a -> {
+            gets.incrementAndGet();
+            return get(a.getArgument(0));
+        });
+        when(table.get(anyList())).thenAnswer(a -> {
+            batchGets.incrementAndGet();
+            List<Get> list = a.getArgument(0);
+            Result[] results = new Result[list.size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = get(list.get(i));
+            }
+            return results;
+        });
+        doAnswer(a -> {
+            write(a.getArgument(0));
+            return null;
+        }).when(table).put(any(Put.class));
+        doAnswer(a -> {
+            List<Put> puts = a.getArgument(0);
+            puts.forEach(this::write);
+            return null;
+        }).when(table).put(anyList());
+        doAnswer(a -> {
+            batchGets.incrementAndGet();
+            List<? extends Row> list = a.getArgument(0);
+            Object[] results = a.getArgument(1);
+            List<Throwable> failures = new ArrayList<>();
+            List<Row> failed = new ArrayList<>();
+            for (int i = 0; i < results.length; i++) {
+                try {
+                    results[i] = get((Get) list.get(i));
+                } catch (RuntimeException e) {
+                    results[i] = e;
+                    failures.add(e);
+                    failed.add(list.get(i));
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new RetriesExhaustedWithDetailsException(failures, failed, Collections.nCopies(failed.size(), "memory"));
+            }
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+    }
+
+    public MemoryTable put(byte[] row, byte[] value) {
+        rows.put(row, row(row, value));
+        return this;
+    }
+
+    /**
+     * 写入, 覆盖整行
+     */
+    public void write(Put put) {
+        List<Cell> cells = new ArrayList<>();
+        put.getFamilyCellMap().values().forEach(cells::addAll);
+        rows.put(put.getRow(), Result.create(cells));
+    }
+
+    public static Result row(byte[] row, byte[] value) {
+        return Result.create(new Cell[]{new KeyValue(row, FAMILY, QUALIFIER, value)});
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public Table getTable() {
+        return table;
+    }
+
+    public int getGets() {
+        return gets.get();
+    }
+
+    public int getBatchGets() {
+        return batchGets.get();
+    }
+
+    protected Result get(Get get) {
+        Result result = rows.get(get.getRow());
+        return result == null ? Result.EMPTY_RESULT : result;
+    }
+
+    private ResultScanner scanner(Scan scan) {
+        byte[] start = scan.getStartRow();
+        byte[] stop = scan.getStopRow();
+        NavigableMap<byte[], Result> range = start.length == 0 ? rows : rows.tailMap(start, scan.includeStartRow());
+        if (stop.length > 0) {
+            range = range.headMap(stop, scan.includeStopRow());
+        }
+        Iterator<Result> iterator = new ArrayList<>(range.values()).iterator();
+        return new ResultScanner() {
+
+            @Override
+            public Result next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public boolean renewLease() {
+                return Boolean.FALSE;
+            }
+
+            @Override
+            public ScanMetrics getScanMetrics() {
+                return null;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,156 @@
+package cn.darkjrong.hbase.codec;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HbaseCodecRegistryTest {
+
+    @Test
+    void builtInTypesRoundTrip() {
+        assertRoundTrip(String.class, "hbase");
+        assertRoundTrip(Integer.class, -42);
+        assertRoundTrip(Long.class, Long.MAX_VALUE);
+        assertRoundTrip(Double.class, 3.14D);
+        assertRoundTrip(Float.class, 2.5F);
+        assertRoundTrip(Short.class, (short) 7);
+        assertRoundTrip(Boolean.class, Boolean.TRUE);
+        assertRoundTrip(Byte.class, (byte) -1);
+        assertRoundTrip(Character.class, '中');
+        assertRoundTrip(BigDecimal.class, new BigDecimal("12345.6789"));
+        assertRoundTrip(UUID.class, UUID.randomUUID());
+        assertRoundTrip(Instant.class, Instant.ofEpochSecond(1669507200L, 123456789));
+        assertArrayEquals(Bytes.toBytes("raw"), HbaseCodecRegistry.getCodec(byte[].class).decode(Bytes.toBytes("raw")));
+    }
+
+    @Test
+    void primitiveSharesWrapperCodec() {
+        assertSame(HbaseCodecRegistry.getCodec(Integer.class), HbaseCodecRegistry.getCodec(int.class));
+        assertSame(HbaseCodecRegistry.getCodec(Long.class), HbaseCodecRegistry.getCodec(long.class));
+        assertSame(HbaseCodecRegistry.getCodec(Boolean.class), HbaseCodecRegistry.getCodec(boolean.class));
+    }
+
+    @Test
+    void decodeHonoursOffset() {
+        byte[] data = Bytes.add(new byte[]{9, 9}, Bytes.toBytes(100L));
+        assertEquals(100L, HbaseCodecRegistry.getCodec(Long.class).decode(data, 2, Bytes.SIZEOF_LONG));
+        byte[] text = Bytes.toBytes("xxabc");
+        assertEquals("abc", HbaseCodecRegistry.getCodec(String.class).decode(text, 2, 3));
+    }
+
+    @Test
+    void enumsAreEncodedByName() {
+        HbaseCodec<Color> codec = HbaseCodecRegistry.getCodec(Color.class);
+        assertArrayEquals(Bytes.toBytes("RED"), codec.encode(Color.RED));
+        assertEquals(Color.GREEN, codec.decode(Bytes.toBytes("GREEN")));
+    }
+
+    @Test
+    void enumConstantWithBodyUsesDeclaringEnum() {
+        Class<?> constantClass = Operation.PLUS.getClass();
+        assertNotSame(Operation.class, constantClass);
+        @SuppressWarnings("unchecked")
+        HbaseCodec<Object> codec = (HbaseCodec<Object>) HbaseCodecRegistry.getCodec(constantClass);
+        assertEquals(Operation.class, codec.getType());
+        assertEquals(Operation.PLUS, codec.decode(codec.encode(Operation.PLUS)));
+    }
+
+    @Test
+    void unknownTypeHasNoCodec() {
+        assertNull(HbaseCodecRegistry.getCodec(Point.class));
+        assertFalse(HbaseCodecRegistry.contains(Object.class));
+        assertFalse(HbaseCodecRegistry.contains(Enum.class));
+        assertNull(HbaseCodecRegistry.getCodec(null));
+    }
+
+    @Test
+    void registerReplacesCachedLookup() {
+        assertFalse(HbaseCodecRegistry.contains(Temperature.class));
+        HbaseCodecRegistry.register(new HbaseCodec<Temperature>() {
+            @Override
+            public Class<Temperature> getType() {
+                return Temperature.class;
+            }
+
+            @Override
+            public byte[] encode(Temperature value) {
+                return Bytes.toBytes(value.celsius);
+            }
+
+            @Override
+            public Temperature decode(byte[] data, int offset, int length) {
+                return new Temperature(Bytes.toInt(data, offset));
+            }
+        });
+        HbaseCodec<Temperature> codec = HbaseCodecRegistry.getCodec(Temperature.class);
+        assertNotNull(codec);
+        assertEquals(36, codec.decode(codec.encode(new Temperature(36))).celsius);
+    }
+
+    @Test
+    void hbaseUtilsRoundTrip() {
+        // toBytes(123L)选择Serializable重载
+        assertEquals(123L, HbaseUtils.getValue(Long.class, HbaseUtils.toBytes(123L)));
+        assertEquals(7, HbaseUtils.getValue(Integer.class, HbaseUtils.toBytes(7)));
+        assertEquals(-1.5D, HbaseUtils.getValue(Double.class, HbaseUtils.toBytes(-1.5D)));
+        assertEquals("中文", HbaseUtils.getValue(String.class, HbaseUtils.toBytes("中文")));
+        assertEquals(Color.RED, HbaseUtils.getValue(Color.class, HbaseUtils.toBytes((Object) Color.RED)));
+    }
+
+    @Test
+    void hbaseUtilsOverloadsShareEncoding() {
+        Serializable[] values = {1001L, 7, (short) 3, 2.5F, 3.14D, "row", Boolean.TRUE, new BigDecimal("1.25")};
+        for (Serializable value : values) {
+            assertArrayEquals(HbaseUtils.toBytes((Object) value), HbaseUtils.toBytes(value), value.getClass().getName());
+        }
+        // 大端序, 与HBase Bytes及协处理器列解释器一致
+        assertArrayEquals(Bytes.toBytes(1001L), HbaseUtils.toBytes(1001L));
+        assertNull(HbaseUtils.toBytes((Serializable) null));
+    }
+
+    @Test
+    void nullCodecIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HbaseCodecRegistry.register(null));
+    }
+
+    private static <T> void assertRoundTrip(Class<T> type, T value) {
+        HbaseCodec<T> codec = HbaseCodecRegistry.getCodec(type);
+        assertNotNull(codec, type.getName());
+        assertEquals(value, codec.decode(codec.encode(value)));
+    }
+
+    enum Color {
+        RED, GREEN
+    }
+
+    enum Operation {
+        PLUS {
+            @Override
+            int apply(int a, int b) {
+                return a + b;
+            }
+        };
+
+        abstract int apply(int a, int b);
+    }
+
+    static class Point {
+    }
+
+    static class Temperature {
+
+        private final int celsius;
+
+        Temperature(int celsius) {
+            this.celsius = celsius;
+        }
+    }
+
+}
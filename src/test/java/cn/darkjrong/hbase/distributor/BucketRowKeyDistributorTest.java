@@ -0,0 +1,141 @@
+package cn.darkjrong.hbase.distributor;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BucketRowKeyDistributorTest {
+
+    private static final byte[] FAMILY = Bytes.toBytes("f");
+
+    private static final byte[] QUALIFIER = Bytes.toBytes("q");
+
+    @Test
+    void keyRoundTrip() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        for (int i = 0; i < 1000; i++) {
+            byte[] original = Bytes.toBytes("row-" + i);
+            byte[] distributed = distributor.getDistributedKey(original);
+            assertEquals(original.length + 1, distributed.length);
+            assertTrue((distributed[0] & 0xFF) < 16);
+            assertArrayEquals(original, distributor.getOriginalKey(distributed));
+            assertArrayEquals(distributed, distributor.getDistributedKey(original));
+        }
+    }
+
+    @Test
+    void hashSpreadsOverAllBuckets() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(8);
+        Set<Byte> buckets = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            buckets.add(distributor.getDistributedKey(Bytes.toBytes(i))[0]);
+        }
+        assertEquals(8, buckets.size());
+    }
+
+    @Test
+    void moduloRotatesSequentialKeys() {
+        RowKeyDistributor distributor = new ModuloRowKeyDistributor(4);
+        for (long i = 0; i < 16; i++) {
+            assertEquals(i % 4, distributor.getDistributedKey(Bytes.toBytes(i))[0]);
+        }
+    }
+
+    @Test
+    void bucketsAreValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new HashRowKeyDistributor(0));
+        assertThrows(IllegalArgumentException.class, () -> new HashRowKeyDistributor(BucketRowKeyDistributor.MAX_BUCKETS + 1));
+    }
+
+    @Test
+    void splitKeysOnePerBucket() {
+        byte[][] splitKeys = new HashRowKeyDistributor(4).getSplitKeys();
+        assertEquals(3, splitKeys.length);
+        for (int i = 0; i < splitKeys.length; i++) {
+            assertArrayEquals(new byte[]{(byte) (i + 1)}, splitKeys[i]);
+        }
+    }
+
+    @Test
+    void distributedScansCoverEveryBucket() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(4);
+        Scan scan = new Scan().withStartRow(Bytes.toBytes("a")).withStopRow(Bytes.toBytes("m"), true).setCaching(50);
+        List<Scan> scans = distributor.getDistributedScans(scan);
+        assertEquals(4, scans.size());
+        for (int i = 0; i < scans.size(); i++) {
+            Scan distributed = scans.get(i);
+            assertArrayEquals(Bytes.add(new byte[]{(byte) i}, Bytes.toBytes("a")), distributed.getStartRow());
+            assertArrayEquals(Bytes.add(new byte[]{(byte) i}, Bytes.toBytes("m")), distributed.getStopRow());
+            assertTrue(distributed.includeStopRow());
+            assertEquals(50, distributed.getCaching());
+        }
+    }
+
+    @Test
+    void unboundedScanStopsAtNextBucket() {
+        List<Scan> scans = new HashRowKeyDistributor(2).getDistributedScans(new Scan());
+        assertArrayEquals(new byte[]{0}, scans.get(0).getStartRow());
+        assertArrayEquals(new byte[]{1}, scans.get(0).getStopRow());
+        assertArrayEquals(new byte[]{1}, scans.get(1).getStartRow());
+        assertArrayEquals(new byte[]{2}, scans.get(1).getStopRow());
+    }
+
+    @Test
+    void reversedScanIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashRowKeyDistributor(2).getDistributedScans(new Scan().setReversed(true)));
+    }
+
+    @Test
+    void putIsRewritten() throws Exception {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        byte[] row = Bytes.toBytes("row");
+        Put put = new Put(row, 100L).addColumn(FAMILY, QUALIFIER, Bytes.toBytes("v"));
+        put.setAttribute("a", Bytes.toBytes("b"));
+
+        Mutation distributed = distributor.getDistributedMutation(put);
+        assertInstanceOf(Put.class, distributed);
+        assertArrayEquals(distributor.getDistributedKey(row), distributed.getRow());
+        assertArrayEquals(Bytes.toBytes("b"), distributed.getAttribute("a"));
+        Cell cell = ((Put) distributed).get(FAMILY, QUALIFIER).get(0);
+        assertArrayEquals(distributed.getRow(), CellUtil.cloneRow(cell));
+        assertArrayEquals(Bytes.toBytes("v"), CellUtil.cloneValue(cell));
+        assertEquals(100L, cell.getTimestamp());
+        // 原对象不变
+        assertArrayEquals(row, put.getRow());
+    }
+
+    @Test
+    void deleteKeepsCellTypes() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        Delete delete = new Delete(Bytes.toBytes("row")).addColumns(FAMILY, QUALIFIER).addFamily(Bytes.toBytes("g"));
+
+        Mutation distributed = distributor.getDistributedMutation(delete);
+        assertInstanceOf(Delete.class, distributed);
+        assertEquals(Cell.Type.DeleteColumn, distributed.getFamilyCellMap().get(FAMILY).get(0).getType());
+        assertEquals(Cell.Type.DeleteFamily, distributed.getFamilyCellMap().get(Bytes.toBytes("g")).get(0).getType());
+    }
+
+    @Test
+    void resultIsRestored() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        byte[] row = Bytes.toBytes("row");
+        byte[] distributedRow = distributor.getDistributedKey(row);
+        Result result = Result.create(new Cell[]{new KeyValue(distributedRow, FAMILY, QUALIFIER, Bytes.toBytes("v"))});
+
+        Result original = distributor.getOriginalResult(result);
+        assertArrayEquals(row, original.getRow());
+        assertArrayEquals(Bytes.toBytes("v"), original.getValue(FAMILY, QUALIFIER));
+        assertSame(Result.EMPTY_RESULT, distributor.getOriginalResult(Result.EMPTY_RESULT));
+    }
+
+}
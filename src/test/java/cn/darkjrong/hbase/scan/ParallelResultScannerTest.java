@@ -0,0 +1,212 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.MemoryTable;
+import cn.darkjrong.hbase.distributor.HashRowKeyDistributor;
+import cn.darkjrong.hbase.distributor.RowKeyDistributor;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelResultScannerTest {
+
+    private static final TableName TABLE = TableName.valueOf("t");
+
+    private static final int ROWS = 2000;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void before() {
+        executor = Executors.newFixedThreadPool(2, daemon());
+    }
+
+    @AfterEach
+    void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sortedWithMoreBucketsThanThreads() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        MemoryTable table = distributedTable(distributor);
+        List<Scan> scans = distributor.getDistributedScans(new Scan());
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE, scans, executor,
+                    MergeMode.SORTED, 10, distributor::getOriginalResult, 0L)) {
+                assertEquals(keys(0, ROWS), rows(scanner));
+            }
+        });
+    }
+
+    @Test
+    void sortedConcurrentScansSharingPool() {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(4);
+        MemoryTable table = distributedTable(distributor);
+        ExecutorService callers = Executors.newFixedThreadPool(4, daemon());
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                List<Future<List<Integer>>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    futures.add(callers.submit(() -> {
+                        try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE,
+                                distributor.getDistributedScans(new Scan()), executor, MergeMode.SORTED, 10,
+                                distributor::getOriginalResult, 0L)) {
+                            return rows(scanner);
+                        }
+                    }));
+                }
+                for (Future<List<Integer>> future : futures) {
+                    assertEquals(keys(0, ROWS), future.get());
+                }
+            });
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void sortedLimit() throws Exception {
+        RowKeyDistributor distributor = new HashRowKeyDistributor(16);
+        MemoryTable table = distributedTable(distributor);
+        Scan scan = new Scan().withStartRow(Bytes.toBytes(100)).withStopRow(Bytes.toBytes(500));
+        try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE,
+                distributor.getDistributedScans(scan), executor, MergeMode.SORTED, 10, distributor::getOriginalResult, 50L)) {
+            assertEquals(keys(100, 150), rows(scanner));
+            assertNull(scanner.next());
+        }
+    }
+
+    @Test
+    void ordered() throws Exception {
+        MemoryTable table = plainTable();
+        List<Scan> scans = regionScans();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE, scans, executor,
+                    MergeMode.ORDERED, 10)) {
+                assertEquals(keys(0, ROWS), rows(scanner));
+            }
+        });
+    }
+
+    @Test
+    void unordered() throws Exception {
+        MemoryTable table = plainTable();
+        List<Scan> scans = regionScans();
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE, scans, executor,
+                    MergeMode.UNORDERED, 10, UnaryOperator.identity(), 0L)) {
+                List<Integer> rows = rows(scanner);
+                rows.sort(Integer::compare);
+                assertEquals(keys(0, ROWS), rows);
+            }
+        });
+    }
+
+    @Test
+    void subScanFailureIsIOException() throws Exception {
+        MemoryTable table = plainTable();
+        UnaryOperator<Result> failing = result -> {
+            throw new IllegalStateException("bad row");
+        };
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE, regionScans(), executor,
+                    MergeMode.UNORDERED, 10, failing, 0L)) {
+                IOException e = assertThrows(IOException.class, scanner::next);
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+                assertNull(scanner.next());
+                assertNull(scanner.getScanMetrics());
+            }
+        });
+    }
+
+    @Test
+    void closeEarly() throws Exception {
+        MemoryTable table = plainTable();
+        ResultScanner scanner = new ParallelResultScanner(table.getConnection(), TABLE, regionScans(), executor,
+                MergeMode.ORDERED, 10);
+        assertNotNull(scanner.next());
+        scanner.close();
+        assertNull(scanner.next());
+    }
+
+    /**
+     * 死锁时测试超时失败, 不阻止JVM退出
+     */
+    private static ThreadFactory daemon() {
+        return ThreadFactoryBuilder.create().setDaemon(Boolean.TRUE).build();
+    }
+
+    private static MemoryTable distributedTable(RowKeyDistributor distributor) {
+        try {
+            MemoryTable table = new MemoryTable();
+            for (int i = 0; i < ROWS; i++) {
+                table.put(distributor.getDistributedKey(Bytes.toBytes(i)), Bytes.toBytes(i));
+            }
+            return table;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MemoryTable plainTable() throws Exception {
+        MemoryTable table = new MemoryTable();
+        for (int i = 0; i < ROWS; i++) {
+            table.put(Bytes.toBytes(i), Bytes.toBytes(i));
+        }
+        return table;
+    }
+
+    /**
+     * 8个region, 多于线程数
+     */
+    private static List<Scan> regionScans() {
+        List<Scan> scans = new ArrayList<>();
+        int step = ROWS / 8;
+        for (int i = 0; i < 8; i++) {
+            Scan scan = new Scan().withStartRow(Bytes.toBytes(i * step));
+            if (i < 7) {
+                scan.withStopRow(Bytes.toBytes((i + 1) * step));
+            }
+            scans.add(scan);
+        }
+        return scans;
+    }
+
+    private static List<Integer> rows(ResultScanner scanner) throws IOException {
+        List<Integer> rows = new ArrayList<>();
+        Result result;
+        while ((result = scanner.next()) != null) {
+            rows.add(Bytes.toInt(result.getRow()));
+            assertTrue(Arrays.equals(result.getRow(), result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER)));
+        }
+        return rows;
+    }
+
+    private static List<Integer> keys(int from, int to) {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            keys.add(i);
+        }
+        return keys;
+    }
+
+}
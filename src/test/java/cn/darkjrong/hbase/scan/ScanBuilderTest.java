@@ -0,0 +1,27 @@
+package cn.darkjrong.hbase.scan;
+
+import cn.darkjrong.hbase.HbaseUtils;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanBuilderTest {
+
+    @Test
+    void numericRowsUseRowKeyEncoding() {
+        Scan scan = ScanBuilder.create().startRow(1001L, Boolean.TRUE).stopRow(2002L).build();
+        assertArrayEquals(Bytes.toBytes(1001L), scan.getStartRow());
+        assertArrayEquals(HbaseUtils.toRowKey(2002L), scan.getStopRow());
+        assertTrue(Bytes.compareTo(scan.getStartRow(), scan.getStopRow()) < 0);
+    }
+
+    @Test
+    void bytesAndStringsArePassedThrough() {
+        Scan scan = ScanBuilder.create().startRow(new byte[]{1, 2}, Boolean.TRUE).stopRow("z").build();
+        assertArrayEquals(new byte[]{1, 2}, scan.getStartRow());
+        assertArrayEquals(Bytes.toBytes("z"), scan.getStopRow());
+    }
+
+}
@@ -0,0 +1,89 @@
+package cn.darkjrong.hbase.scan;
+
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanSplitterTest {
+
+    /**
+     * region: [, b), [b, d), [d, )
+     */
+    private static final Pair<byte[][], byte[][]> REGIONS = new Pair<>(
+            new byte[][]{HConstants.EMPTY_START_ROW, Bytes.toBytes("b"), Bytes.toBytes("d")},
+            new byte[][]{Bytes.toBytes("b"), Bytes.toBytes("d"), HConstants.EMPTY_END_ROW});
+
+    @Test
+    void fullScanSplitsPerRegion() {
+        List<Scan> scans = ScanSplitter.split(new Scan(), REGIONS);
+        assertEquals(3, scans.size());
+        assertRange(scans.get(0), "", true, "b", false);
+        assertRange(scans.get(1), "b", true, "d", false);
+        assertRange(scans.get(2), "d", true, "", false);
+    }
+
+    @Test
+    void rangeIsIntersectedWithRegions() {
+        Scan scan = new Scan().withStartRow(Bytes.toBytes("a")).withStopRow(Bytes.toBytes("c"));
+        List<Scan> scans = ScanSplitter.split(scan, REGIONS);
+        assertEquals(2, scans.size());
+        assertRange(scans.get(0), "a", true, "b", false);
+        assertRange(scans.get(1), "b", true, "c", false);
+    }
+
+    @Test
+    void exclusiveStartIsKept() {
+        Scan scan = new Scan().withStartRow(Bytes.toBytes("a"), false).withStopRow(Bytes.toBytes("c"));
+        List<Scan> scans = ScanSplitter.split(scan, REGIONS);
+        assertRange(scans.get(0), "a", false, "b", false);
+        assertRange(scans.get(1), "b", true, "c", false);
+    }
+
+    @Test
+    void inclusiveStopOnRegionBoundaryBelongsToNextRegion() {
+        Scan scan = new Scan().withStartRow(Bytes.toBytes("c")).withStopRow(Bytes.toBytes("d"), true);
+        List<Scan> scans = ScanSplitter.split(scan, REGIONS);
+        assertEquals(2, scans.size());
+        assertRange(scans.get(0), "c", true, "d", false);
+        assertRange(scans.get(1), "d", true, "d", true);
+    }
+
+    @Test
+    void rangeInsideOneRegionIsNotSplit() {
+        Scan scan = new Scan().withStartRow(Bytes.toBytes("ba")).withStopRow(Bytes.toBytes("bz"));
+        List<Scan> scans = ScanSplitter.split(scan, REGIONS);
+        assertEquals(1, scans.size());
+        assertRange(scans.get(0), "ba", true, "bz", false);
+    }
+
+    @Test
+    void reversedAndLimitedScansAreNotSplit() {
+        Scan reversed = new Scan().setReversed(true);
+        assertSame(reversed, ScanSplitter.split(reversed, REGIONS).get(0));
+        Scan limited = new Scan().setLimit(10);
+        assertSame(limited, ScanSplitter.split(limited, REGIONS).get(0));
+    }
+
+    @Test
+    void splitKeepsScanSettings() {
+        Scan scan = new Scan().addFamily(Bytes.toBytes("f")).setCaching(123);
+        for (Scan split : ScanSplitter.split(scan, REGIONS)) {
+            assertTrue(split.hasFamilies());
+            assertEquals(123, split.getCaching());
+        }
+    }
+
+    private static void assertRange(Scan scan, String start, boolean includeStart, String stop, boolean includeStop) {
+        assertEquals(start, Bytes.toString(scan.getStartRow()));
+        assertEquals(includeStart, scan.includeStartRow());
+        assertEquals(stop, Bytes.toString(scan.getStopRow()));
+        assertEquals(includeStop, scan.includeStopRow());
+    }
+
+}
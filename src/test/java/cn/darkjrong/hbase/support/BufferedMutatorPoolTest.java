@@ -0,0 +1,97 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.metrics.HbaseMetrics;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BufferedMutatorPoolTest {
+
+    private final List<String> flushes = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Supplier<Number>> buffers = new ConcurrentHashMap<>();
+
+    private BufferedMutator delegate;
+
+    private BufferedMutatorPool mutatorPool;
+
+    @BeforeEach
+    void before() throws Exception {
+        delegate = mock(BufferedMutator.class);
+        when(delegate.getName()).thenReturn(TableName.valueOf("t"));
+        Connection connection = mock(Connection.class);
+        when(connection.getBufferedMutator(any(BufferedMutatorParams.class))).thenReturn(delegate);
+        mutatorPool = new BufferedMutatorPool(connection, 1024, 200);
+        mutatorPool.setMetrics(new HbaseMetrics() {
+            @Override
+            public void recordOperation(String tableName, String operation, long nanos, boolean success) {
+                flushes.add(tableName + ":" + operation + ":" + success);
+            }
+
+            @Override
+            public void bindMutatorBuffer(String tableName, Supplier<Number> bufferSize) {
+                buffers.put(tableName, bufferSize);
+            }
+        });
+    }
+
+    @AfterEach
+    void after() {
+        mutatorPool.close();
+    }
+
+    @Test
+    void fullBufferFlushIsRecorded() throws Exception {
+        BufferedMutator mutator = mutatorPool.getMutator("t");
+        Put small = put(16);
+        mutator.mutate(small);
+        assertEquals(small.heapSize(), buffers.get("t").get().longValue());
+        verify(delegate, never()).flush();
+
+        mutator.mutate(put(2048));
+        verify(delegate, times(1)).flush();
+        assertEquals(0L, buffers.get("t").get().longValue());
+        assertTrue(flushes.contains("t:flush:true"));
+    }
+
+    @Test
+    void periodicAndPoolFlushesAreRecorded() throws Exception {
+        mutatorPool.getMutator("t").mutate(put(16));
+        verify(delegate, timeout(2000).times(1)).flush();
+        assertEquals(0L, buffers.get("t").get().longValue());
+
+        mutatorPool.flush();
+        assertEquals(2, flushes.size());
+    }
+
+    @Test
+    void failedFlushIsRecorded() throws Exception {
+        doThrow(new IOException("down")).when(delegate).flush();
+        mutatorPool.getMutator("t");
+        assertThrows(HbaseException.class, () -> mutatorPool.flush("t"));
+        assertEquals("t:flush:false", flushes.get(0));
+    }
+
+    private static Put put(int valueSize) {
+        return new Put(Bytes.toBytes("r")).addColumn(Bytes.toBytes("f"), Bytes.toBytes("q"), new byte[valueSize]);
+    }
+
+}
@@ -0,0 +1,94 @@
+package cn.darkjrong.hbase.support;
+
+import org.apache.hadoop.hbase.HRegionLocation;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ClusterMetadataIndexTest {
+
+    private static final TableName TABLE = TableName.valueOf("t");
+
+    private static final ServerName SERVER = ServerName.valueOf("rs1", 16020, 1L);
+
+    private final RegionInfo first = RegionInfoBuilder.newBuilder(TABLE).setEndKey(Bytes.toBytes("m")).build();
+
+    private final RegionInfo second = RegionInfoBuilder.newBuilder(TABLE).setStartKey(Bytes.toBytes("m")).build();
+
+    private Connection connection;
+
+    private Admin admin;
+
+    private ClusterMetadataIndex metadataIndex;
+
+    @BeforeEach
+    void before() throws Exception {
+        connection = mock(Connection.class);
+        admin = mock(Admin.class);
+        when(connection.getAdmin()).thenReturn(admin);
+        when(admin.tableExists(TABLE)).thenReturn(Boolean.TRUE);
+        RegionLocator locator = mock(RegionLocator.class);
+        when(locator.getAllRegionLocations()).thenReturn(Arrays.asList(
+                new HRegionLocation(first, SERVER), new HRegionLocation(second, null)));
+        when(connection.getRegionLocator(TABLE)).thenReturn(locator);
+        metadataIndex = new ClusterMetadataIndex(connection, Duration.ofHours(1));
+    }
+
+    @Test
+    void onlyRequestedTableIsLoaded() throws Exception {
+        assertEquals(TABLE, metadataIndex.getTableName("t"));
+        assertEquals(Arrays.asList(first, second), metadataIndex.getRegionsByTable("t"));
+        assertEquals(first, metadataIndex.getRegion(first.getRegionNameAsString()));
+        assertEquals(SERVER, metadataIndex.getServer(first.getRegionNameAsString()));
+        assertNull(metadataIndex.getServer(second.getRegionNameAsString()));
+
+        verify(connection, times(1)).getRegionLocator(any());
+        verify(admin, never()).listTableNames(any(Pattern.class), anyBoolean());
+    }
+
+    @Test
+    void missingTableIsCached() throws Exception {
+        assertNull(metadataIndex.getTableName("none"));
+        assertTrue(metadataIndex.getRegionsByTable("none").isEmpty());
+        assertNull(metadataIndex.getTableName("bad name"));
+        assertNull(metadataIndex.getRegion("garbage"));
+        verify(admin, times(1)).tableExists(TableName.valueOf("none"));
+        verify(connection, never()).getRegionLocator(any());
+    }
+
+    @Test
+    void invalidateReloads() throws Exception {
+        metadataIndex.getTableName("t");
+        metadataIndex.getTableName("t");
+        verify(connection, times(1)).getRegionLocator(TABLE);
+
+        metadataIndex.invalidate();
+        metadataIndex.getTableName("t");
+        verify(connection, times(2)).getRegionLocator(TABLE);
+
+        metadataIndex.refresh();
+        verify(connection, times(3)).getRegionLocator(TABLE);
+    }
+
+    @Test
+    void serverRegionsComeFromServer() throws Exception {
+        when(admin.getRegions(SERVER)).thenReturn(Collections.singletonList(first));
+        assertEquals(Collections.singletonList(first), metadataIndex.getRegionsByServer(SERVER.getServerName()));
+        assertEquals(Collections.singletonList(first), metadataIndex.getRegionsByServer(SERVER.getServerName()));
+        verify(admin, times(1)).getRegions(SERVER);
+        verify(connection, never()).getRegionLocator(any());
+    }
+
+}
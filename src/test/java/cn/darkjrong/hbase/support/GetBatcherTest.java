@@ -0,0 +1,158 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.HbaseException;
+import cn.darkjrong.hbase.MemoryTable;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetBatcherTest {
+
+    private static final String TABLE = "t";
+
+    private static final byte[] BAD_ROW = Bytes.toBytes("bad");
+
+    private MemoryTable table;
+
+    private GetBatcher getBatcher;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void before() throws Exception {
+        callers = Executors.newCachedThreadPool(ThreadFactoryBuilder.create().setDaemon(Boolean.TRUE).build());
+        table = new MemoryTable() {
+            @Override
+            protected Result get(Get get) {
+                if (Bytes.equals(BAD_ROW, get.getRow())) {
+                    throw new IllegalArgumentException("bad row");
+                }
+                return super.get(get);
+            }
+        };
+        for (int i = 0; i < 8; i++) {
+            table.put(Bytes.toBytes("r" + i), Bytes.toBytes("v" + i));
+        }
+    }
+
+    @AfterEach
+    void after() {
+        if (getBatcher != null) {
+            getBatcher.close();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void fullBatchIsSentOnce() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofSeconds(30), 4);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<CompletableFuture<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(get("r" + i));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertEquals("v" + i, value(futures.get(i).join()));
+            }
+        });
+        assertEquals(1, table.getBatchGets());
+    }
+
+    @Test
+    void windowSendsPartialBatch() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofMillis(20), 64);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertEquals("v1", value(getBatcher.get(TABLE, new Get(Bytes.toBytes("r1")))));
+        });
+        assertEquals(1, table.getBatchGets());
+    }
+
+    @Test
+    void badGetFailsOnlyItsCaller() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofSeconds(30), 3);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CompletableFuture<Result> first = get("r1");
+            CompletableFuture<Result> bad = get(new Get(BAD_ROW));
+            CompletableFuture<Result> last = get("r2");
+            assertEquals("v1", value(first.join()));
+            assertEquals("v2", value(last.join()));
+            CompletionException e = assertThrows(CompletionException.class, bad::join);
+            assertInstanceOf(HbaseException.class, e.getCause());
+            assertInstanceOf(IllegalArgumentException.class, e.getCause().getCause());
+        });
+        assertEquals(1, table.getBatchGets());
+    }
+
+    @Test
+    void saturatedDispatcherStillSendsEveryBatch() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofMillis(5), 64, 1, 1);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<CompletableFuture<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String tableName = TABLE + i;
+                Get get = new Get(Bytes.toBytes("r" + i));
+                futures.add(CompletableFuture.supplyAsync(() -> getBatcher.get(tableName, get), callers));
+            }
+            for (int i = 0; i < 8; i++) {
+                assertEquals("v" + i, value(futures.get(i).join()));
+            }
+        });
+        assertEquals(8, table.getBatchGets());
+    }
+
+    @Test
+    void missingRowIsEmpty() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofMillis(1), 64);
+        assertTrue(getBatcher.get(TABLE, new Get(Bytes.toBytes("none"))).isEmpty());
+    }
+
+    @Test
+    void getAfterCloseFailsFast() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofSeconds(30), 64);
+        getBatcher.close();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(HbaseException.class, () -> getBatcher.get(TABLE, new Get(Bytes.toBytes("r1"))));
+            assertThrows(HbaseException.class, () -> getBatcher.get(TABLE, new Get(Bytes.toBytes("r2"))));
+        });
+        assertEquals(0, table.getBatchGets());
+    }
+
+    @Test
+    void closeFailsPendingBatch() {
+        getBatcher = new GetBatcher(table.getConnection(), Duration.ofSeconds(30), 64);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            CompletableFuture<Result> pending = get("r1");
+            Thread.sleep(50L);
+            getBatcher.close();
+            CompletionException e = assertThrows(CompletionException.class, pending::join);
+            assertInstanceOf(HbaseException.class, e.getCause());
+        });
+    }
+
+    private CompletableFuture<Result> get(String row) {
+        return get(new Get(Bytes.toBytes(row)));
+    }
+
+    private CompletableFuture<Result> get(Get get) {
+        return CompletableFuture.supplyAsync(() -> getBatcher.get(TABLE, get), callers);
+    }
+
+    private static String value(Result result) {
+        return Bytes.toString(result.getValue(MemoryTable.FAMILY, MemoryTable.QUALIFIER));
+    }
+
+}
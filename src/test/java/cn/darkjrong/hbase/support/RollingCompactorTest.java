@@ -0,0 +1,119 @@
+package cn.darkjrong.hbase.support;
+
+import cn.darkjrong.hbase.enums.CompactionUnit;
+import org.apache.hadoop.hbase.RegionMetrics;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.*;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class RollingCompactorTest {
+
+    private static final TableName TABLE = TableName.valueOf("t");
+
+    private static final ServerName SERVER = ServerName.valueOf("rs1", 16020, 1L);
+
+    private final RegionInfo first = RegionInfoBuilder.newBuilder(TABLE).setEndKey(Bytes.toBytes("m")).build();
+
+    private final RegionInfo second = RegionInfoBuilder.newBuilder(TABLE).setStartKey(Bytes.toBytes("m")).build();
+
+    /**
+     * region最近主压缩时间, key: region名称
+     */
+    private final Map<String, Long> lastMajorCompactions = new ConcurrentHashMap<>();
+
+    private Admin admin;
+
+    private RollingCompactor compactor;
+
+    @BeforeEach
+    void before() throws Exception {
+        admin = mock(Admin.class);
+        Connection connection = mock(Connection.class);
+        when(connection.getAdmin()).thenReturn(admin);
+        when(admin.getRegions(TABLE)).thenReturn(Arrays.asList(first, second));
+        when(admin.getCompactionStateForRegion(any())).thenReturn(CompactionState.NONE);
+        when(admin.getLastMajorCompactionTimestampForRegion(any()))
+                .thenAnswer(a -> lastMajorCompactions.getOrDefault(Bytes.toStringBinary((byte[]) a.getArgument(0)), 0L));
+        RegionMetrics firstMetrics = regionMetrics(first, 2);
+        RegionMetrics secondMetrics = regionMetrics(second, 2);
+        when(admin.getRegionMetrics(SERVER, TABLE)).thenReturn(Arrays.asList(firstMetrics, secondMetrics));
+
+        ClusterMetadataIndex metadataIndex = mock(ClusterMetadataIndex.class);
+        when(metadataIndex.getTableName("t")).thenReturn(TABLE);
+        when(metadataIndex.getServer(any())).thenReturn(SERVER);
+
+        compactor = new RollingCompactor(connection, metadataIndex, 1, Duration.ofMillis(5), Duration.ZERO);
+    }
+
+    @AfterEach
+    void after() {
+        compactor.close();
+    }
+
+    @Test
+    void queuedMajorCompactionHoldsNextRegion() throws Exception {
+        RollingCompactor.RollingCompaction compaction = compactor.compactTable("t", CompactionUnit.REGION, Boolean.TRUE);
+
+        verify(admin, timeout(1000)).majorCompactRegion(first.getRegionName());
+        // 请求排队中, 状态一直为NONE且主压缩时间未更新
+        Thread.sleep(200L);
+        verify(admin, never()).majorCompactRegion(second.getRegionName());
+        assertEquals(1, compaction.getRunning());
+
+        lastMajorCompactions.put(first.getRegionNameAsString(), System.currentTimeMillis());
+        verify(admin, timeout(1000)).majorCompactRegion(second.getRegionName());
+        lastMajorCompactions.put(second.getRegionNameAsString(), System.currentTimeMillis());
+
+        assertTrue(compaction.await(Duration.ofSeconds(5)));
+        assertEquals(2, compaction.getCompleted());
+        assertEquals(0, compaction.getFailed());
+    }
+
+    @Test
+    void regionsWithoutStoreFilesAreSkipped() throws Exception {
+        RegionMetrics empty = regionMetrics(first, 0);
+        RegionMetrics secondMetrics = regionMetrics(second, 0);
+        when(admin.getRegionMetrics(SERVER, TABLE)).thenReturn(Arrays.asList(empty, secondMetrics));
+
+        RollingCompactor.RollingCompaction compaction = compactor.compactTable("t", CompactionUnit.SERVER, Boolean.TRUE);
+        assertTrue(compaction.await(Duration.ofSeconds(5)));
+        assertEquals(2, compaction.getSkipped());
+        verify(admin, never()).majorCompactRegion(any());
+    }
+
+    @Test
+    void unassignedRegionsAreSkipped() throws Exception {
+        when(admin.getRegions(TABLE)).thenReturn(Collections.singletonList(first));
+        ClusterMetadataIndex metadataIndex = mock(ClusterMetadataIndex.class);
+        when(metadataIndex.getTableName("t")).thenReturn(TABLE);
+        Connection connection = mock(Connection.class);
+        when(connection.getAdmin()).thenReturn(admin);
+        try (RollingCompactor unassigned = new RollingCompactor(connection, metadataIndex, 1, Duration.ofMillis(5), Duration.ZERO)) {
+            RollingCompactor.RollingCompaction compaction = unassigned.compactTable("t", CompactionUnit.REGION, Boolean.TRUE);
+            assertTrue(compaction.await(Duration.ofSeconds(5)));
+            assertEquals(1, compaction.getSkipped());
+        }
+    }
+
+    private static RegionMetrics regionMetrics(RegionInfo region, int storeFiles) {
+        RegionMetrics metrics = mock(RegionMetrics.class);
+        when(metrics.getRegionName()).thenReturn(region.getRegionName());
+        when(metrics.getStoreFileCount()).thenReturn(storeFiles);
+        return metrics;
+    }
+
+}
@@ -0,0 +1,104 @@
+package cn.darkjrong.hbase.support;
+
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void before() {
+        executor = Executors.newCachedThreadPool(ThreadFactoryBuilder.create().setDaemon(Boolean.TRUE).build());
+    }
+
+    @AfterEach
+    void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsShareOneLoad() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Future<Integer> leader = executor.submit(() -> flight.execute("k", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            }));
+            while (flight.inFlight() == 0) {
+                Thread.yield();
+            }
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                followers.add(executor.submit(() -> flight.execute("k", () -> {
+                    loads.incrementAndGet();
+                    return -1;
+                })));
+            }
+            while (flight.getSharedCount() < followers.size()) {
+                Thread.yield();
+            }
+            release.countDown();
+            assertEquals(42, leader.get());
+            for (Future<Integer> follower : followers) {
+                assertEquals(42, follower.get());
+            }
+        });
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void failureIsSharedAndNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Future<Integer> leader = executor.submit(() -> flight.execute("k", () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            while (flight.inFlight() == 0) {
+                Thread.yield();
+            }
+            Future<Integer> follower = executor.submit(() -> flight.execute("k", () -> 0));
+            while (flight.getSharedCount() == 0) {
+                Thread.yield();
+            }
+            release.countDown();
+            assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, follower::get).getCause());
+        });
+        assertEquals(0, flight.inFlight());
+        assertEquals(7, flight.execute("k", () -> 7));
+    }
+
+    @Test
+    void distinctKeysLoadIndependently() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        assertEquals("a", flight.execute("a", () -> "a"));
+        assertEquals("b", flight.execute("b", () -> "b"));
+        assertEquals(0, flight.getSharedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
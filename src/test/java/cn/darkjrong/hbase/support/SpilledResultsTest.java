@@ -0,0 +1,139 @@
+package cn.darkjrong.hbase.support;
+
+import cn.hutool.core.util.StrUtil;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpilledResultsTest {
+
+    private static final RowSerializer<String> SERIALIZER = new RowSerializer<String>() {
+        @Override
+        public byte[] serialize(String row) {
+            return Bytes.toBytes(row);
+        }
+
+        @Override
+        public String deserialize(byte[] data) {
+            return Bytes.toString(data);
+        }
+    };
+
+    @TempDir
+    File directory;
+
+    @Test
+    void spillFileRoundTrip() throws Exception {
+        List<String> rows = Arrays.asList("a", "", "bb", "中文");
+        try (SpillFile run = SpillFile.write(directory, rows, SERIALIZER)) {
+            assertEquals(4, run.getCount());
+            assertEquals(run.getSize(), run.getFile().length());
+            assertEquals(rows, read(run.iterator(SERIALIZER)));
+            // 可重复读取
+            assertEquals(rows, read(run.iterator(SERIALIZER)));
+        }
+    }
+
+    @Test
+    void spillFileIsSizedToItsData() throws Exception {
+        try (SpillFile run = SpillFile.write(directory, Collections.singletonList("abc"), SERIALIZER)) {
+            assertEquals(Integer.BYTES + 3, run.getSize());
+            assertEquals(run.getSize(), run.getFile().length());
+        }
+        try (SpillFile empty = SpillFile.write(directory, Collections.emptyList(), SERIALIZER)) {
+            assertEquals(0, empty.getSize());
+            assertFalse(empty.iterator(SERIALIZER).hasNext());
+        }
+    }
+
+    @Test
+    void spillFileGrowsBeyondEstimate() throws Exception {
+        // 首行较小, 后续行超出按平均大小估算的映射
+        List<String> rows = new ArrayList<>();
+        rows.add("a");
+        for (int i = 0; i < 50; i++) {
+            rows.add(StrUtil.repeat((char) ('a' + i % 26), 1000 + i));
+        }
+        try (SpillFile run = SpillFile.write(directory, rows, SERIALIZER)) {
+            assertEquals(run.getSize(), run.getFile().length());
+            assertEquals(rows, read(run.iterator(SERIALIZER)));
+        }
+    }
+
+    @Test
+    void closeDeletesFile() throws Exception {
+        SpillFile run = SpillFile.write(directory, Collections.singletonList("a"), SERIALIZER);
+        assertTrue(run.getFile().exists());
+        assertTrue(SpillFile.openFiles().contains(run.getFile()));
+        run.close();
+        assertFalse(run.getFile().exists());
+        assertFalse(SpillFile.openFiles().contains(run.getFile()));
+    }
+
+    @Test
+    void sortedRunsAreMerged() throws Exception {
+        List<SpillFile> runs = Arrays.asList(
+                SpillFile.write(directory, Arrays.asList("a", "d", "g"), SERIALIZER),
+                SpillFile.write(directory, Arrays.asList("b", "e", "h"), SERIALIZER),
+                SpillFile.write(directory, Arrays.asList("c", "f"), SERIALIZER));
+        List<String> memory = Arrays.asList("0", "i");
+        try (SpilledResults<String> results = new SpilledResults<>(memory, runs, SERIALIZER, Comparator.naturalOrder())) {
+            assertTrue(results.isSpilled());
+            assertEquals(3, results.getRunCount());
+            assertEquals(10, results.getSize());
+            List<String> expected = Arrays.asList("0", "a", "b", "c", "d", "e", "f", "g", "h", "i");
+            assertEquals(expected, read(results.iterator()));
+            // 可重复遍历
+            assertEquals(expected, results.stream().collect(Collectors.toList()));
+        }
+        runs.forEach(run -> assertFalse(run.getFile().exists()));
+    }
+
+    @Test
+    void equalRowsKeepRunOrder() throws Exception {
+        Comparator<String> byFirstChar = Comparator.comparing(row -> row.charAt(0));
+        List<SpillFile> runs = Arrays.asList(
+                SpillFile.write(directory, Arrays.asList("a1", "b1"), SERIALIZER),
+                SpillFile.write(directory, Arrays.asList("a2", "b2"), SERIALIZER));
+        try (SpilledResults<String> results = new SpilledResults<>(Collections.singletonList("a3"), runs, SERIALIZER, byFirstChar)) {
+            assertEquals(Arrays.asList("a1", "a2", "a3", "b1", "b2"), read(results.iterator()));
+        }
+    }
+
+    @Test
+    void unsortedRunsAreChained() throws Exception {
+        List<String> first = IntStream.range(0, 5).mapToObj(i -> "x" + (5 - i)).collect(Collectors.toList());
+        List<SpillFile> runs = Arrays.asList(
+                SpillFile.write(directory, first, SERIALIZER),
+                SpillFile.write(directory, Collections.singletonList("y"), SERIALIZER));
+        try (SpilledResults<String> results = new SpilledResults<>(Collections.singletonList("a"), runs, SERIALIZER, null)) {
+            List<String> expected = new ArrayList<>(first);
+            expected.add("y");
+            expected.add("a");
+            assertEquals(expected, read(results.iterator()));
+            assertEquals(expected, read(results.iterator()));
+        }
+    }
+
+    @Test
+    void inMemoryResultsAreNotSpilled() {
+        SpilledResults<String> results = new SpilledResults<>(Arrays.asList("a", "b"), Collections.emptyList(), SERIALIZER, null);
+        assertFalse(results.isSpilled());
+        assertEquals(2, results.getSize());
+        assertEquals(Arrays.asList("a", "b"), read(results.iterator()));
+    }
+
+    private static List<String> read(Iterator<String> iterator) {
+        List<String> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+
+}